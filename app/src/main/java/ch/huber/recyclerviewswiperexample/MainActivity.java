@@ -6,8 +6,6 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.widget.Toast;
@@ -17,12 +15,25 @@ import java.util.List;
 
 import ch.huber.recyclerviewswiper.RecyclerViewSwiper;
 import ch.huber.recyclerviewswiper.SwipeButton;
+import ch.huber.recyclerviewswiper.SwipeButtonBatch;
+import ch.huber.recyclerviewswiper.SwipeButtonBatchListener;
 import ch.huber.recyclerviewswiper.SwipeButtonClickListener;
+import ch.huber.recyclerviewswiper.SwipeChangeSet;
 
 public class MainActivity extends AppCompatActivity {
 
+    private static final int TYPE_DELETE = 0;
+    private static final int TYPE_COPY = 1;
+    private static final int TYPE_INFO = 2;
+
+    private static final String STATE_SWIPER = "swiper";
+
     private RecyclerView recyclerView;
     private MyAdapter adapter;
+    private RecyclerViewSwiper swiper;
+
+    private SwipeButtonClickListener deleteListener;
+    private SwipeButtonClickListener copyListener;
 
     private List<String> items;
 
@@ -35,6 +46,16 @@ public class MainActivity extends AppCompatActivity {
         initData();
         initRecyclerView();
         addSwiper();
+
+        if (savedInstanceState != null) {
+            swiper.onRestoreInstanceState(savedInstanceState.getParcelable(STATE_SWIPER));
+        }
+    }
+
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putParcelable(STATE_SWIPER, swiper.onSaveInstanceState());
     }
 
     private void setViews() {
@@ -58,34 +79,41 @@ public class MainActivity extends AppCompatActivity {
         this.adapter = new MyAdapter(this.items);
         this.recyclerView.setAdapter(this.adapter);
 
+        // Rows deleted or copied in quick succession are applied together
+
+        SwipeButtonBatch batch = new SwipeButtonBatch(this.adapter);
+        this.deleteListener = batch.createClickListener(deleteAction);
+        this.copyListener = batch.createClickListener(copyAction);
+
     }
 
     private void addSwiper() {
 
-        RecyclerViewSwiper swiper = new RecyclerViewSwiper(this, this.recyclerView) {
+        this.swiper = new RecyclerViewSwiper(this, this.recyclerView) {
             @Override
             public void initSwipeButtonRight(RecyclerView.ViewHolder viewHolder, List<SwipeButton> swipeButtons) {
 
                 // DELETE
 
-                swipeButtons.add(new SwipeButton(MainActivity.this, "DELETE", Color.RED, new SwipeButtonClickListener() {
-                    @Override
-                    public void onClick(int position) {
-                        items.remove(position);
-                        adapter.notifyDataSetChanged();
-                    }
-                }));
+                SwipeButton deleteButton = getSwipeButtonPool().getRecycledButton(TYPE_DELETE);
+
+                if (deleteButton == null) {
+                    deleteButton = new SwipeButton(MainActivity.this, "DELETE", Color.RED, TYPE_DELETE, deleteListener);
+                    deleteButton.setIcon(R.drawable.ic_delete_white);
+                }
+
+                swipeButtons.add(deleteButton);
 
                 // COPY
 
-                swipeButtons.add(new SwipeButton(MainActivity.this, "COPY", Color.BLACK, new SwipeButtonClickListener() {
-                    @Override
-                    public void onClick(int position) {
-                        items.add(items.get(position));
-                        adapter.notifyDataSetChanged();
-                        Toast.makeText(MainActivity.this, items.get(position) + " added", Toast.LENGTH_SHORT).show();
-                    }
-                }));
+                SwipeButton copyButton = getSwipeButtonPool().getRecycledButton(TYPE_COPY);
+
+                if (copyButton == null) {
+                    copyButton = new SwipeButton(MainActivity.this, "COPY", Color.BLACK, TYPE_COPY, copyListener);
+                    copyButton.setIcon(R.drawable.ic_library_add_white);
+                }
+
+                swipeButtons.add(copyButton);
             }
 
             @Override
@@ -93,19 +121,61 @@ public class MainActivity extends AppCompatActivity {
 
                 // INFO
 
-                swipeButtons.add(new SwipeButton(MainActivity.this, "INFO", Color.BLUE, new SwipeButtonClickListener() {
-                    @Override
-                    public void onClick(int position) {
-                        Toast.makeText(MainActivity.this, items.get(position), Toast.LENGTH_SHORT).show();
-                        adapter.notifyDataSetChanged();
-                    }
-                }));
+                SwipeButton infoButton = getSwipeButtonPool().getRecycledButton(TYPE_INFO);
+
+                if (infoButton == null) {
+                    infoButton = new SwipeButton(MainActivity.this, "INFO", Color.BLUE, TYPE_INFO, infoListener);
+                    infoButton.setIcon(R.drawable.ic_info_white);
+                    infoButton.setWidth(SwipeButton.WIDTH_WRAP_CONTENT);
+                }
+
+                swipeButtons.add(infoButton);
             }
         };
         swiper.setButtonWidth(200);
+        swiper.setButtonPrefetchEnabled(true);
 
     }
 
+    /**
+     * Listeners are created once and shared by all pooled buttons, they only depend on the position.
+     */
+    private final SwipeButtonBatchListener deleteAction = new SwipeButtonBatchListener() {
+        @Override
+        public void onClick(int[] positions, int count, SwipeChangeSet changes) {
+
+            // Positions are descending, so removing does not shift the remaining ones
+
+            for (int i = 0; i < count; i++) {
+                items.remove(positions[i]);
+                changes.remove(positions[i]);
+            }
+        }
+    };
+
+    private final SwipeButtonBatchListener copyAction = new SwipeButtonBatchListener() {
+        @Override
+        public void onClick(int[] positions, int count, SwipeChangeSet changes) {
+            for (int i = 0; i < count; i++) {
+                items.add(items.get(positions[i]));
+                changes.insert(items.size() - 1);
+            }
+
+            Toast.makeText(MainActivity.this, count + " added", Toast.LENGTH_SHORT).show();
+        }
+    };
+
+    private final SwipeButtonClickListener infoListener = new SwipeButtonClickListener() {
+        @Override
+        public void onClick(int position) {
+            Toast.makeText(MainActivity.this, items.get(position), Toast.LENGTH_SHORT).show();
+
+            // Content did not change, only the swiped row is rebound to close it
+
+            adapter.notifyItemChanged(position);
+        }
+    };
+
     private List<String> getDummyData() {
         List<String> data = new ArrayList<>();
         data.add("Jason Garrett");
@@ -10,6 +10,8 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.List;
 
+import ch.huber.recyclerviewswiper.RecyclerViewSwiper;
+
 public class MyAdapter extends RecyclerView.Adapter<MyAdapter.MyViewHolder> {
 
     private List<String> items;
@@ -41,6 +43,41 @@ public class MyAdapter extends RecyclerView.Adapter<MyAdapter.MyViewHolder> {
         holder.textView.setText(this.items.get(position));
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull MyViewHolder holder, int position, @NonNull List<Object> payloads) {
+
+        if (isRecoverOnly(payloads)) {
+
+            // Swiper already reset the swiped row, content did not change
+
+            return;
+        }
+
+        super.onBindViewHolder(holder, position, payloads);
+    }
+
+    /**
+     * RecyclerView merges the payloads of one frame, so a content change notified along with a
+     * recovery still needs a full bind.
+     *
+     * @param payloads Merged payloads of the row
+     * @return Whether the row was only recovered by the swiper
+     */
+    private static boolean isRecoverOnly(List<Object> payloads) {
+
+        if (payloads.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0, size = payloads.size(); i < size; i++) {
+            if (!RecyclerViewSwiper.PAYLOAD_RECOVER.equals(payloads.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public int getItemCount() {
         return this.items.size();
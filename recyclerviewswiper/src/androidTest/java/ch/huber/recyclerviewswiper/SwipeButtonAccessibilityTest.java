@@ -0,0 +1,58 @@
+package ch.huber.recyclerviewswiper;
+
+import android.content.Context;
+import android.graphics.Color;
+
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Instrumented test, which verifies that the accessibility actions of @{@link SwipeButton} are
+ * reused across accessibility events.
+ */
+@RunWith(AndroidJUnit4.class)
+public class SwipeButtonAccessibilityTest {
+
+    private final SwipeButtonClickListener clickListener = new SwipeButtonClickListener() {
+        @Override
+        public void onClick(int position) {
+        }
+    };
+
+    @Test
+    public void getAccessibilityAction_sameId_reusesAction() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        SwipeButton swipeButton = new SwipeButton(context, "DELETE", Color.RED, clickListener);
+
+        AccessibilityNodeInfoCompat.AccessibilityActionCompat action =
+                swipeButton.getAccessibilityAction(R.id.swipe_button_action_right_0);
+
+        assertSame(action, swipeButton.getAccessibilityAction(R.id.swipe_button_action_right_0));
+        assertEquals(R.id.swipe_button_action_right_0, action.getId());
+        assertEquals("DELETE", action.getLabel());
+    }
+
+    @Test
+    public void getAccessibilityAction_descriptionChanged_relabelsAction() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        SwipeButton swipeButton = new SwipeButton(context, "", Color.RED, clickListener);
+
+        AccessibilityNodeInfoCompat.AccessibilityActionCompat action =
+                swipeButton.getAccessibilityAction(R.id.swipe_button_action_left_1);
+        swipeButton.setContentDescription("Delete");
+
+        AccessibilityNodeInfoCompat.AccessibilityActionCompat relabeled =
+                swipeButton.getAccessibilityAction(R.id.swipe_button_action_left_1);
+
+        assertNotSame(action, relabeled);
+        assertEquals("Delete", relabeled.getLabel());
+    }
+}
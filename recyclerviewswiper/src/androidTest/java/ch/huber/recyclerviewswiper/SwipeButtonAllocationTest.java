@@ -0,0 +1,146 @@
+package ch.huber.recyclerviewswiper;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Debug;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ItemTouchHelper;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Instrumented test, which verifies that the draw path of @{@link RecyclerViewSwiper} does not
+ * allocate during a swipe once the buttons of the swiped item are built.
+ */
+@RunWith(AndroidJUnit4.class)
+public class SwipeButtonAllocationTest {
+
+    private static final int FRAMES = 200;
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+    private static final int ITEM_HEIGHT = 200;
+
+    @Test
+    public void onChildDraw_steadyStateSwipe_doesNotAllocate() {
+        assertEquals(0, countSwipeAllocations(false));
+    }
+
+    @Test
+    public void onChildDraw_steadyStateSwipeWithFaceCache_doesNotAllocate() {
+        assertEquals(0, countSwipeAllocations(true));
+    }
+
+    /**
+     * Swipes the first item of a laid out list from right to left through
+     * {@link RecyclerViewSwiper#onChildDraw}, the same way ItemTouchHelper draws it.
+     *
+     * @param faceCache Whether the buttons are drawn from a @{@link SwipeButtonFaceCache}
+     * @return Number of allocations of the second swipe
+     */
+    private static int countSwipeAllocations(final boolean faceCache) {
+        final Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        final int[] allocations = new int[1];
+
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            @SuppressWarnings("deprecation")
+            public void run() {
+                RecyclerView recyclerView = new RecyclerView(context);
+                recyclerView.setLayoutManager(new LinearLayoutManager(context));
+                recyclerView.setAdapter(new ItemAdapter());
+
+                RecyclerViewSwiper swiper = new RecyclerViewSwiper(context, recyclerView) {
+                    @Override
+                    public void initSwipeButtonRight(RecyclerView.ViewHolder viewHolder, List<SwipeButton> swipeButtons) {
+                        SwipeButtonClickListener clickListener = new SwipeButtonClickListener() {
+                            @Override
+                            public void onClick(int position) {
+                            }
+                        };
+
+                        swipeButtons.add(new SwipeButton(context, "DELETE", Color.RED, clickListener));
+                        swipeButtons.add(new SwipeButton(context, "COPY", Color.BLACK, clickListener));
+                    }
+
+                    @Override
+                    public void initSwipeButtonLeft(RecyclerView.ViewHolder viewHolder, List<SwipeButton> swipeButtons) {
+                    }
+                };
+
+                if (faceCache) {
+                    swiper.setFaceCache(new SwipeButtonFaceCache(context));
+                }
+
+                recyclerView.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                        View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+                recyclerView.layout(0, 0, WIDTH, HEIGHT);
+
+                RecyclerView.ViewHolder viewHolder = recyclerView.findViewHolderForAdapterPosition(0);
+                assertNotNull(viewHolder);
+
+                Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+
+                // Warm up, so the buttons, their faces and text layouts and lazy initialisations
+                // within the framework are not counted
+
+                drawSwipe(swiper, canvas, recyclerView, viewHolder);
+
+                Debug.resetThreadAllocCount();
+                Debug.startAllocCounting();
+                try {
+                    drawSwipe(swiper, canvas, recyclerView, viewHolder);
+                } finally {
+                    Debug.stopAllocCounting();
+                }
+
+                allocations[0] = Debug.getThreadAllocCount();
+            }
+        });
+
+        return allocations[0];
+    }
+
+    private static void drawSwipe(RecyclerViewSwiper swiper, Canvas canvas, RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder) {
+        for (int frame = 1; frame <= FRAMES; frame++) {
+            float dX = -600f * frame / FRAMES;
+            swiper.onChildDraw(canvas, recyclerView, viewHolder, dX, 0, ItemTouchHelper.ACTION_STATE_SWIPE, true);
+        }
+    }
+
+    private static class ItemAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            View itemView = new View(parent.getContext());
+            itemView.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ITEM_HEIGHT));
+
+            return new RecyclerView.ViewHolder(itemView) {
+            };
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        }
+
+        @Override
+        public int getItemCount() {
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Parcel;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Instrumented test, which verifies that a @{@link SwipeSavedState} survives a parcel round trip
+ * and stays compact for lists with thousands of rows.
+ */
+@RunWith(AndroidJUnit4.class)
+public class SwipeSavedStateParcelTest {
+
+    private static final int ROWS = 5000;
+
+    @Test
+    public void writeToParcel_thousandsOfOpenRows_eightBytesPerRow() {
+        SwipeSavedState state = new SwipeSavedState(true, ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            state.set(i, Long.MAX_VALUE - i, i % 2 == 0);
+        }
+
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeParcelable(state, 0);
+            int dataSize = parcel.dataSize();
+
+            // A long key per row, one bit per row for the side, plus class name and headers
+
+            assertTrue("Serialized size " + dataSize, dataSize <= ROWS * 8 + ROWS / 8 + 256);
+
+            parcel.setDataPosition(0);
+            SwipeSavedState restored = parcel.readParcelable(SwipeSavedState.class.getClassLoader());
+
+            assertEquals(ROWS, restored.size());
+
+            for (int i = 0; i < ROWS; i++) {
+                assertEquals(Long.MAX_VALUE - i, restored.keyAt(i));
+                assertEquals(i % 2 == 0, restored.isRightSideAt(i));
+            }
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void writeToParcel_singleOpenRow_independentOfListSize() {
+        SwipeSavedState state = new SwipeSavedState(false, 1);
+        state.set(0, 4999, true);
+
+        Parcel parcel = Parcel.obtain();
+        try {
+            state.writeToParcel(parcel, 0);
+
+            // Flags, key array and side array with their lengths
+
+            assertEquals(4 + 4 + 8 + 4 + 8, parcel.dataSize());
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
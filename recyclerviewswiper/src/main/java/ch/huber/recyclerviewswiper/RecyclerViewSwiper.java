@@ -1,32 +1,49 @@
 package ch.huber.recyclerviewswiper;
 
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.Point;
-import android.graphics.Rect;
 import android.graphics.RectF;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.Parcelable;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.SparseArray;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
 import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.accessibility.AccessibilityEvent;
+import android.view.animation.AnimationUtils;
 
 import androidx.annotation.NonNull;
+import androidx.core.view.AccessibilityDelegateCompat;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
 import androidx.recyclerview.widget.ItemTouchHelper;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.RecyclerViewAccessibilityDelegate;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 
+import static androidx.recyclerview.widget.ItemTouchHelper.DOWN;
 import static androidx.recyclerview.widget.ItemTouchHelper.LEFT;
 import static androidx.recyclerview.widget.ItemTouchHelper.RIGHT;
+import static androidx.recyclerview.widget.ItemTouchHelper.UP;
 
 /**
- * Handles swipe gestures on a @{@link RecyclerView} instance. Currently LEFT and RIGHT swipes with
- * multiple @{@link SwipeButton} are supported.
+ * Handles swipe gestures on a @{@link RecyclerView} instance. Items are swiped either LEFT and
+ * RIGHT, or UP and DOWN in horizontal lists, to reveal multiple @{@link SwipeButton}. Buttons are
+ * laid out within the bounds of each item, so grids are supported as well. The right side is the
+ * end side of an item, so in right-to-left layouts buttons of the right side are drawn on the left
+ * side and the other way round.
  *
  * @author  Michael Huber
  * @version 1.0
@@ -34,326 +51,2341 @@ import static androidx.recyclerview.widget.ItemTouchHelper.RIGHT;
 public abstract class RecyclerViewSwiper extends ItemTouchHelper.SimpleCallback {
 
     /**
-     * Width of a single @{@link SwipeButton}. Default value is {@value}.
+     * Payload of the change notifications fired when swiped items are reset to the "unswiped"
+     * state. The swiper already resets the translation of the item view, so adapters may skip
+     * rebinding the item when all payloads of
+     * {@code onBindViewHolder(ViewHolder, int, List)} are this value. RecyclerView merges the
+     * payloads of one frame, so other payloads along with it still require a full bind.
+     */
+    public static final Object PAYLOAD_RECOVER = "ch.huber.recyclerviewswiper.PAYLOAD_RECOVER";
+
+    /**
+     * Swiped items are closed by a change notification with {@link #PAYLOAD_RECOVER}, which lets
+     * the adapter rebind the item (default).
+     */
+    public static final int CLOSE_MODE_REBIND = 0;
+
+    /**
+     * Swiped items are closed by animating their translation back to zero on the existing view,
+     * without notifying the adapter.
+     */
+    public static final int CLOSE_MODE_ANIMATE = 1;
+
+    /**
+     * Open items are closed as soon as the list starts to scroll (default). Their views are
+     * released in place, the change notifications are deferred until the list is idle again.
+     */
+    public static final int SCROLL_MODE_CLOSE = 0;
+
+    /**
+     * Open items stay open while the list scrolls. Their buttons are drawn as they are from the
+     * cached faces, without being looked up, laid out or tracked again on every frame. A
+     * @{@link SwipeButtonFaceCache} is created if none is set.
+     */
+    public static final int SCROLL_MODE_FREEZE = 1;
+
+    /**
+     * Time a single idle slice may spend prefetching buttons, see
+     * {@link #setButtonPrefetchEnabled(boolean)}. Default value is {@value} nanoseconds.
+     */
+    private static final long PREFETCH_BUDGET_NANOS = 2000000L;
+
+    /**
+     * Number of rows before and after the attached rows whose registered buttons are prefetched.
+     */
+    private static final int PREFETCH_AHEAD_ROWS = 2;
+
+    /**
+     * Accessibility action ids of the buttons on the left side of a row, by index from the outer
+     * edge. Buttons beyond are not exposed.
+     */
+    private static final int[] ACTION_IDS_LEFT = {
+            R.id.swipe_button_action_left_0, R.id.swipe_button_action_left_1,
+            R.id.swipe_button_action_left_2, R.id.swipe_button_action_left_3,
+            R.id.swipe_button_action_left_4, R.id.swipe_button_action_left_5,
+            R.id.swipe_button_action_left_6, R.id.swipe_button_action_left_7
+    };
+
+    /**
+     * Accessibility action ids of the buttons on the right side of a row, see
+     * {@link #ACTION_IDS_LEFT}.
+     */
+    private static final int[] ACTION_IDS_RIGHT = {
+            R.id.swipe_button_action_right_0, R.id.swipe_button_action_right_1,
+            R.id.swipe_button_action_right_2, R.id.swipe_button_action_right_3,
+            R.id.swipe_button_action_right_4, R.id.swipe_button_action_right_5,
+            R.id.swipe_button_action_right_6, R.id.swipe_button_action_right_7
+    };
+
+    /**
+     * Width of a @{@link SwipeButton} with the default weight. Default value is {@value}.
      */
     private int buttonWidth = 200;
 
-    private RecyclerView recyclerView;
+    private RecyclerView recyclerView;
+
+    /**
+     * Whether items are swiped UP and DOWN instead of LEFT and RIGHT. Buttons of the right side
+     * are revealed at the bottom of such items, buttons of the left side at the top.
+     */
+    private final boolean vertical;
+
+    private ItemTouchHelper itemTouchHelper;
+
+    private GestureDetector swipeButtonGestureDetector;
+
+    private SwipeButtonFaceCache faceCache;
+
+    private SwipeButtonPool swipeButtonPool;
+
+    private SwipeButtonRow swipeButtons;
+
+    /**
+     * Buttons per row, keyed by stable item id if the adapter has stable ids, otherwise by
+     * adapter position.
+     */
+    private SwipeButtonBuffer<SwipeButtonRow> swipeButtonsBufferLeft;
+    private SwipeButtonBuffer<SwipeButtonRow> swipeButtonsBufferRight;
+
+    /**
+     * Releases rows evicted from or cleared out of the buffers into the @{@link SwipeButtonPool}.
+     * Rows of the swiped item and of all other open items are still drawn and tapped, so their
+     * buttons are left alone instead of being handed to another row.
+     */
+    private final SwipeButtonBuffer.EvictionListener<SwipeButtonRow> evictedRowReleaser =
+            new SwipeButtonBuffer.EvictionListener<SwipeButtonRow>() {
+                @Override
+                public void onEvicted(long key, SwipeButtonRow swipeButtonRow) {
+                    if (swipeButtonRow != swipeButtons && !isOpenBufferKey(key)) {
+                        releaseSwipeButtons(swipeButtonRow);
+                    }
+                }
+            };
+
+    /**
+     * Registered buttons per adapter view type, resolved instead of calling the init methods.
+     */
+    private SparseArray<SwipeButtonTemplate> swipeButtonTemplatesLeft = new SparseArray<>();
+    private SparseArray<SwipeButtonTemplate> swipeButtonTemplatesRight = new SparseArray<>();
+
+    private RecyclerView.Adapter<?> observedAdapter;
+    private final RecyclerView.AdapterDataObserver adapterDataObserver = new SwipePositionObserver();
+
+    /**
+     * Reused to collect the buttons of removed rows, before they are released into the pool.
+     */
+    private final List<SwipeButtonRow> removedSwipeButtons = new ArrayList<>();
+
+    private int closeMode = CLOSE_MODE_REBIND;
+
+    /**
+     * Builds buttons of visible rows ahead of their first swipe while the main thread is idle, null
+     * unless enabled.
+     */
+    private SwipeButtonPrefetcher prefetcher;
+    private boolean swiping;
+
+    /**
+     * Whether the list is scrolled by the user or settles from a fling, recovery of closed items
+     * is deferred meanwhile.
+     */
+    private boolean scrolling;
+    private int scrollMode = SCROLL_MODE_CLOSE;
+
+    /**
+     * Directions in which a full swipe dismisses the item instead of revealing buttons.
+     */
+    private int dismissDirections;
+    private SwipeDismissListener dismissListener;
+
+    /**
+     * Running in-place close animations, see {@link #CLOSE_MODE_ANIMATE}.
+     */
+    private final List<CloseAnimation> closeAnimations = new ArrayList<>();
+
+    private SwipeSnapEngine snapEngine = new SwipeSnapEngine();
+    private final float minFlingVelocity;
+
+    /**
+     * Item currently dragged by the user, along with its clamped translation and velocity, taken
+     * over by a settle once released.
+     */
+    private RecyclerView.ViewHolder draggedViewHolder;
+    private float draggedDelta;
+    private float draggedTranslation;
+    private float draggedVelocity;
+    private long draggedFrameMillis;
+
+    /**
+     * Released items settling open or closed along the curve of the snap engine.
+     */
+    private final List<Settle> settles = new ArrayList<>();
+
+    /**
+     * Open items of a previous instance, reopened once their rows are laid out, see
+     * {@link #onRestoreInstanceState(Parcelable)}.
+     */
+    private SwipeSavedState restoredState;
+
+    /**
+     * Reopened items, which are translated and drawn by the swiper instead of ItemTouchHelper
+     * until they are closed or swiped again.
+     */
+    private final List<RecyclerView.ViewHolder> restoredViewHolders = new ArrayList<>();
+
+    /**
+     * Metrics of the current swipe, only collected while a listener is set.
+     */
+    private SwipeMetricsListener metricsListener;
+    private SwipeMetrics metrics;
+    private int metricsFaceCacheHits;
+    private int metricsFaceCacheMisses;
+
+    private int recoverRebindCount;
+    private long lastCloseLatencyNanos = -1;
+
+    private SwipeRecoverQueue recoverQueue;
+    private final SwipeRecoverQueue.RangeConsumer recoverRangeConsumer = new RecoverRangeConsumer();
+
+    /**
+     * Items currently swiped open, at most one unless raised by {@link #setMaxOpenItems(int)}.
+     */
+    private SwipeOpenItems openItems;
+
+    private int swipedItemPosition = -1;
+
+    /**
+     * Bounds of the swiped item, refreshed whenever it is drawn, so touch events can be filtered
+     * without looking up its view.
+     */
+    private int swipedItemLeft;
+    private int swipedItemTop;
+    private int swipedItemRight;
+    private int swipedItemBottom;
+
+    /**
+     * Reused for every @{@link SwipeButton} drawn, so a swipe frame does not allocate.
+     */
+    private final RectF buttonRect = new RectF();
+    private float[] buttonRects = new float[16];
+    private final SwipeButtonGeometry buttonGeometry = new SwipeButtonGeometry();
+
+    /**
+     * Hit regions of the @{@link SwipeButton} of the currently swiped item.
+     */
+    private final SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+    private boolean swipedRight;
+
+    /**
+     * Side of the buttons revealed by a swipe, resolved whenever the layout direction of the list
+     * changes. Buttons of the right side belong to the end of an item.
+     */
+    private final SwipeSideTable sides = new SwipeSideTable();
+    private int layoutDirection = -1;
+
+    /**
+     * Decides whether a gesture outside of the swiped item closes it, see
+     * {@link #setScrollMode(int)}.
+     */
+    private final SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+    /**
+     * Gesture-Listener will notify when a motion gesture event has occured. For example, when
+     * a @{@link SwipeButton} gets pressed.
+     */
+    private class SwipeButtonGestureDetectorListener extends GestureDetector.SimpleOnGestureListener {
+
+        @Override
+        public boolean onSingleTapConfirmed(MotionEvent e) {
+
+            RecyclerView.ViewHolder swipedViewHolder = findOpenViewHolder(e.getX(), e.getY());
+
+            if (swipedViewHolder == null) {
+
+                // Tap outside of all open items, or the open item is not laid out anymore since it
+                // was scrolled away
+
+                closeOpenItems();
+                return true;
+            }
+
+            int position = swipedViewHolder.getAdapterPosition();
+            int slot = openItems.indexOf(position);
+
+            if (slot < 0) {
+                return true;
+            }
+
+            boolean rightSide = openItems.isRightSideAt(slot);
+            SwipeButtonRow buttons = position == swipedItemPosition ? swipeButtons : findSwipeButtons(swipedViewHolder, position, rightSide);
+
+            // Refresh the hit regions in case the item moved since it was swiped
+
+            layoutHitIndex(swipedViewHolder.itemView, position, rightSide, buttons);
+
+            int index = vertical ? hitIndex.find(e.getY(), e.getX()) : hitIndex.find(e.getX(), e.getY());
+
+            if (index >= 0) {
+                Trace.beginSection("RecyclerViewSwiper#onClick");
+                try {
+                    buttons.get(index).performClick(position);
+                } finally {
+                    Trace.endSection();
+                }
+
+                if (metrics != null) {
+                    metrics.recordClick(SystemClock.uptimeMillis() - e.getDownTime());
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Observes the adapter and keeps the positions of swiped, open and recovering items pointing to
+     * the same items when positions shift. Position-keyed buttons are shifted along on insertions
+     * and removals and dropped on any other change, buttons keyed by stable ids survive data set
+     * changes.
+     */
+    private class SwipePositionObserver extends RecyclerView.AdapterDataObserver {
+
+        @Override
+        public void onChanged() {
+            invalidatePositionKeys();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+
+            if (hasPositionKeys()) {
+                swipeButtonsBufferLeft.offsetKeys(positionStart, itemCount);
+                swipeButtonsBufferRight.offsetKeys(positionStart, itemCount);
+                restoredState = null;
+            }
+
+            openItems.insertRange(positionStart, itemCount);
+            recoverQueue.insertRange(positionStart, itemCount);
+            swipedItemPosition = SwipePositions.afterInsert(swipedItemPosition, positionStart, itemCount);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+
+            if (hasPositionKeys()) {
+                int positionEnd = positionStart + itemCount;
+                restoredState = null;
+
+                swipeButtonsBufferLeft.removeRange(positionStart, positionEnd, removedSwipeButtons);
+                swipeButtonsBufferRight.removeRange(positionStart, positionEnd, removedSwipeButtons);
+                swipeButtonsBufferLeft.offsetKeys(positionEnd, -itemCount);
+                swipeButtonsBufferRight.offsetKeys(positionEnd, -itemCount);
+
+                for (int i = 0, size = removedSwipeButtons.size(); i < size; i++) {
+                    releaseSwipeButtons(removedSwipeButtons.get(i));
+                }
+
+                removedSwipeButtons.clear();
+            }
+
+            // Removed items are released by ItemTouchHelper along with their views
+
+            openItems.removeRange(positionStart, itemCount);
+            recoverQueue.removeRange(positionStart, itemCount);
+
+            if (swipedItemPosition >= 0) {
+                swipedItemPosition = SwipePositions.afterRemove(swipedItemPosition, positionStart, itemCount);
+
+                if (swipedItemPosition < 0) {
+                    swipeButtons = SwipeButtonRow.EMPTY;
+                    hitIndex.clear();
+                }
+            }
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            invalidatePositionKeys();
+
+            // RecyclerView only supports moving a single item
+
+            openItems.move(fromPosition, toPosition);
+            recoverQueue.move(fromPosition, toPosition);
+            swipedItemPosition = SwipePositions.afterMove(swipedItemPosition, fromPosition, toPosition);
+        }
+
+        private boolean hasPositionKeys() {
+            return observedAdapter != null && !observedAdapter.hasStableIds();
+        }
+
+        private void invalidatePositionKeys() {
+            if (observedAdapter != null && !observedAdapter.hasStableIds()) {
+                swipeButtonsBufferLeft.clear();
+                swipeButtonsBufferRight.clear();
+                restoredState = null;
+            }
+        }
+    }
+
+    /**
+     * Releases the @{@link SwipeButton} of a row into the @{@link SwipeButtonPool} once its
+     * ViewHolder leaves the screen to be recycled.
+     */
+    private class SwipeButtonReleaseListener implements RecyclerView.OnChildAttachStateChangeListener {
+
+        @Override
+        public void onChildViewAttachedToWindow(@NonNull View view) {
+            if (prefetcher != null) {
+                prefetcher.schedule();
+            }
+        }
+
+        @Override
+        public void onChildViewDetachedFromWindow(@NonNull View view) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.getChildViewHolder(view);
+            int position = viewHolder.getAdapterPosition();
+
+            if (restoredViewHolders.remove(viewHolder)) {
+
+                // Reopened items are unknown to ItemTouchHelper, reset them before they are recycled
+
+                setTranslation(view, 0f);
+            }
+
+            if (position < 0) {
+
+                // Removed item, position-keyed buffers are already invalidated
+
+                return;
+            }
+
+            CloseAnimation closeAnimation = findCloseAnimation(viewHolder);
+
+            if (closeAnimation != null) {
+                closeAnimation.cancel();
+            }
+
+            removeSettle(viewHolder);
+
+            long key = getBufferKey(viewHolder, position);
+            releaseSwipeButtons(swipeButtonsBufferLeft.remove(key));
+            releaseSwipeButtons(swipeButtonsBufferRight.remove(key));
+
+            // ItemTouchHelper resets the swiped view once it is detached, so open items leaving
+            // the screen are closed without being rebound
+
+            openItems.close(position);
+
+            if (position == swipedItemPosition) {
+                swipedItemPosition = -1;
+                swipeButtons = SwipeButtonRow.EMPTY;
+                hitIndex.clear();
+            }
+        }
+    }
+
+    /**
+     * Builds and measures the buttons of attached rows and of the rows next to them while the main
+     * thread is idle, so the first frame of a swipe finds them in the buffers. Every idle slice
+     * stops after {@link #PREFETCH_BUDGET_NANOS} and the remaining rows are continued in the next
+     * one. Nothing is built while the list scrolls or an item is swiped.
+     */
+    private class SwipeButtonPrefetcher implements MessageQueue.IdleHandler {
+
+        private boolean scheduled;
+
+        void schedule() {
+            if (!scheduled) {
+                scheduled = true;
+                Looper.myQueue().addIdleHandler(this);
+            }
+        }
+
+        void cancel() {
+            if (scheduled) {
+                scheduled = false;
+                Looper.myQueue().removeIdleHandler(this);
+            }
+        }
+
+        @Override
+        public boolean queueIdle() {
+
+            if (swiping || recyclerView.getScrollState() != RecyclerView.SCROLL_STATE_IDLE) {
+
+                // Keep waiting, frames of the gesture have priority
+
+                return true;
+            }
+
+            Trace.beginSection("RecyclerViewSwiper#prefetch");
+            try {
+                scheduled = !prefetchSwipeButtons(System.nanoTime() + PREFETCH_BUDGET_NANOS);
+            } finally {
+                Trace.endSection();
+            }
+
+            return scheduled;
+        }
+    }
+
+    /**
+     * Resets a coalesced range of recovered items to the "unswiped" state with a single
+     * notification.
+     */
+    private class RecoverRangeConsumer implements SwipeRecoverQueue.RangeConsumer {
+
+        @Override
+        public void onRange(int positionStart, int itemCount) {
+            boolean animate = closeMode == CLOSE_MODE_ANIMATE;
+
+            for (int position = positionStart; position < positionStart + itemCount; position++) {
+                RecyclerView.ViewHolder viewHolder = recyclerView.findViewHolderForAdapterPosition(position);
+
+                if (viewHolder == null) {
+
+                    // Detached items were already reset by ItemTouchHelper
+
+                    continue;
+                }
+
+                if (animate) {
+
+                    // Items released while the list scrolled are closed already
+
+                    if (getTranslation(viewHolder.itemView) != 0f) {
+                        startCloseAnimation(viewHolder);
+                    }
+                } else if (restoredViewHolders.remove(viewHolder)) {
+                    setTranslation(viewHolder.itemView, 0f);
+                } else {
+
+                    // A change with payload keeps the ViewHolder attached, so ItemTouchHelper
+                    // has to release the swiped view itself, which resets its translation
+
+                    itemTouchHelper.onChildViewDetachedFromWindow(viewHolder.itemView);
+                }
+            }
+
+            RecyclerView.Adapter<?> adapter = recyclerView.getAdapter();
+
+            if (!animate && adapter != null) {
+                adapter.notifyItemRangeChanged(positionStart, itemCount, PAYLOAD_RECOVER);
+                recoverRebindCount += itemCount;
+
+                if (metrics != null) {
+                    metrics.recordRecoverRebinds(itemCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Animates the translation of a swiped item back to zero on a hardware layer. Once finished,
+     * ItemTouchHelper releases the item without the adapter being involved.
+     */
+    private class CloseAnimation extends AnimatorListenerAdapter implements ValueAnimator.AnimatorUpdateListener {
+
+        final RecyclerView.ViewHolder viewHolder;
+
+        private final ValueAnimator animator;
+        private final int previousLayerType;
+        private final long startNanos;
+
+        private boolean canceled;
+
+        CloseAnimation(RecyclerView.ViewHolder viewHolder) {
+            View itemView = viewHolder.itemView;
+
+            this.viewHolder = viewHolder;
+            this.previousLayerType = itemView.getLayerType();
+            this.startNanos = System.nanoTime();
+
+            float translation = getTranslation(itemView);
+            float revealWidth = Math.max(getRevealWidth(viewHolder, sides.isRightSide(translation)), Math.abs(translation));
+
+            this.animator = ValueAnimator.ofFloat(translation, 0f);
+            this.animator.setDuration(snapEngine.getSettleDuration(Math.abs(translation), revealWidth));
+            this.animator.setInterpolator(snapEngine.getSettleInterpolator(false));
+            this.animator.addUpdateListener(this);
+            this.animator.addListener(this);
+        }
+
+        void start() {
+            viewHolder.itemView.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+            animator.start();
+        }
+
+        void cancel() {
+            animator.cancel();
+        }
+
+        @Override
+        public void onAnimationUpdate(ValueAnimator animation) {
+            setTranslation(viewHolder.itemView, (float) animation.getAnimatedValue());
+        }
+
+        @Override
+        public void onAnimationCancel(Animator animation) {
+            canceled = true;
+        }
+
+        @Override
+        public void onAnimationEnd(Animator animation) {
+
+            if (!closeAnimations.remove(this)) {
+
+                // Already finished
+
+                return;
+            }
+
+            View itemView = viewHolder.itemView;
+            itemView.setLayerType(previousLayerType, null);
+            restoredViewHolders.remove(viewHolder);
+
+            // Let ItemTouchHelper forget the swiped item, which also resets its translation
+
+            itemTouchHelper.onChildViewDetachedFromWindow(itemView);
+
+            if (!canceled) {
+                lastCloseLatencyNanos = System.nanoTime() - startNanos;
+            }
+        }
+    }
+
+    /**
+     * Translation of a released item settling open or closed. ItemTouchHelper keeps drawing the
+     * item until its own recover animation of the same duration ends, the settle replaces the
+     * translation of every such frame by the curve of the snap engine.
+     */
+    private static class Settle {
+
+        final RecyclerView.ViewHolder viewHolder;
+
+        private final float start;
+        private final float target;
+        private final long duration;
+        private final TimeInterpolator interpolator;
+
+        /**
+         * Animation time of the first settle frame, -1 until it is drawn.
+         */
+        private long startMillis = -1;
+
+        Settle(RecyclerView.ViewHolder viewHolder, float start, float target, long duration, TimeInterpolator interpolator) {
+            this.viewHolder = viewHolder;
+            this.start = start;
+            this.target = target;
+            this.duration = duration;
+            this.interpolator = interpolator;
+        }
+
+        /**
+         * @param frameMillis Animation time of the current frame
+         * @return Fraction of the settle elapsed at the given time, 1 once settled
+         */
+        float fractionAt(long frameMillis) {
+
+            if (startMillis < 0) {
+                startMillis = frameMillis;
+            }
+
+            if (duration <= 0) {
+                return 1f;
+            }
+
+            return Math.min(1f, (float) (frameMillis - startMillis) / duration);
+        }
+
+        /**
+         * @param fraction Elapsed fraction of the settle
+         * @return Translation of the item at the given fraction
+         */
+        float translationAt(float fraction) {
+            return start + (target - start) * interpolator.getInterpolation(fraction);
+        }
+    }
+
+    /**
+     * Resolves the sides of the buttons once the rows are laid out. Closing the items opened for
+     * the previous sides and reopening the items of a restored state notify the adapter, which
+     * must not happen while the list computes its layout, so both are posted behind the layout
+     * pass.
+     */
+    private class SwipeLayoutListener implements View.OnLayoutChangeListener, Runnable {
+
+        private boolean closePending;
+        private boolean posted;
+
+        @Override
+        public void onLayoutChange(View view, int left, int top, int right, int bottom, int oldLeft, int oldTop, int oldRight, int oldBottom) {
+
+            if (recyclerView.getLayoutDirection() != layoutDirection && resolveSides(recyclerView.getLayoutDirection())) {
+                closePending = true;
+            }
+
+            if (!posted && (closePending || restoredState != null && recyclerView.getChildCount() > 0)) {
+                posted = true;
+                recyclerView.post(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            posted = false;
+
+            if (closePending) {
+                closePending = false;
+
+                if (!openItems.isEmpty()) {
+                    closeOpenItems();
+                }
+            }
+
+            if (restoredState != null && recyclerView.getChildCount() > 0) {
+                reopenRestoredItems();
+            }
+        }
+    }
+
+    /**
+     * Draws the buttons of reopened items. ItemTouchHelper does not know about reopened items, so
+     * their translation is set by {@link #reopenItem} and reset once they are closed.
+     */
+    private class RestoredItemDecoration extends RecyclerView.ItemDecoration {
+
+        @Override
+        public void onDraw(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+            for (int i = 0, size = restoredViewHolders.size(); i < size; i++) {
+                RecyclerView.ViewHolder viewHolder = restoredViewHolders.get(i);
+                int position = viewHolder.getAdapterPosition();
+                float translation = getTranslation(viewHolder.itemView);
+
+                if (position >= 0 && translation != 0f) {
+                    drawSwipeButtons(canvas, viewHolder.itemView, findSwipeButtons(viewHolder, position, sides.isRightSide(translation)),
+                            position, translation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Installs @{@link SwipeItemDelegate} on every row, so the buttons of a row can be reached by
+     * accessibility services without swiping. A delegate the host installed before keeps handling
+     * the list and its rows, the swiper only adds the actions of the buttons.
+     */
+    private class SwipeAccessibilityDelegate extends RecyclerViewAccessibilityDelegate {
+
+        private final RecyclerViewAccessibilityDelegate previousDelegate;
+        private final SwipeItemDelegate itemDelegate;
+
+        SwipeAccessibilityDelegate(@NonNull RecyclerView recyclerView, RecyclerViewAccessibilityDelegate previousDelegate) {
+            super(recyclerView);
+            this.previousDelegate = previousDelegate;
+            this.itemDelegate = new SwipeItemDelegate(this, previousDelegate != null ? previousDelegate.getItemDelegate() : null);
+        }
+
+        @NonNull
+        @Override
+        public AccessibilityDelegateCompat getItemDelegate() {
+
+            // Called by the super constructor before the field is assigned, which falls back to
+            // the default delegate until then
+
+            return itemDelegate != null ? itemDelegate : super.getItemDelegate();
+        }
+
+        @Override
+        public void onInitializeAccessibilityNodeInfo(View host, AccessibilityNodeInfoCompat info) {
+            if (previousDelegate != null) {
+                previousDelegate.onInitializeAccessibilityNodeInfo(host, info);
+            } else {
+                super.onInitializeAccessibilityNodeInfo(host, info);
+            }
+        }
+
+        @Override
+        public void onInitializeAccessibilityEvent(View host, AccessibilityEvent event) {
+            if (previousDelegate != null) {
+                previousDelegate.onInitializeAccessibilityEvent(host, event);
+            } else {
+                super.onInitializeAccessibilityEvent(host, event);
+            }
+        }
+
+        @Override
+        public boolean performAccessibilityAction(View host, int action, Bundle args) {
+            if (previousDelegate != null) {
+                return previousDelegate.performAccessibilityAction(host, action, args);
+            }
+
+            return super.performAccessibilityAction(host, action, args);
+        }
+    }
+
+    /**
+     * Exposes the @{@link SwipeButton} of a row as accessibility actions of its node. Nodes only
+     * expose buttons which are buffered or registered as templates, so building the nodes of a
+     * long list neither runs the init methods nor evicts the buttons of swiped rows. Actions are
+     * cached by the buttons, so building the node of a row does not allocate. Buttons are built by
+     * performing an action, if they are not buffered anymore.
+     */
+    private class SwipeItemDelegate extends RecyclerViewAccessibilityDelegate.ItemDelegate {
+
+        /**
+         * Item delegate of the delegate the host installed before, or null to handle rows like
+         * RecyclerView does.
+         */
+        private final AccessibilityDelegateCompat previousItemDelegate;
+
+        SwipeItemDelegate(@NonNull RecyclerViewAccessibilityDelegate recyclerViewDelegate, AccessibilityDelegateCompat previousItemDelegate) {
+            super(recyclerViewDelegate);
+            this.previousItemDelegate = previousItemDelegate;
+        }
+
+        @Override
+        public void onInitializeAccessibilityNodeInfo(View host, AccessibilityNodeInfoCompat info) {
+            if (previousItemDelegate != null) {
+                previousItemDelegate.onInitializeAccessibilityNodeInfo(host, info);
+            } else {
+                super.onInitializeAccessibilityNodeInfo(host, info);
+            }
+
+            RecyclerView.ViewHolder viewHolder = recyclerView.getChildViewHolder(host);
+            int position = viewHolder != null ? viewHolder.getAdapterPosition() : -1;
+
+            if (position < 0) {
+                return;
+            }
+
+            addAccessibilityActions(info, peekSwipeButtons(viewHolder, position, false), ACTION_IDS_LEFT);
+            addAccessibilityActions(info, peekSwipeButtons(viewHolder, position, true), ACTION_IDS_RIGHT);
+        }
+
+        @Override
+        public boolean performAccessibilityAction(View host, int action, Bundle args) {
+            boolean rightSide = indexOf(ACTION_IDS_RIGHT, action) >= 0;
+            int index = rightSide ? indexOf(ACTION_IDS_RIGHT, action) : indexOf(ACTION_IDS_LEFT, action);
+            RecyclerView.ViewHolder viewHolder = index >= 0 ? recyclerView.getChildViewHolder(host) : null;
+            int position = viewHolder != null ? viewHolder.getAdapterPosition() : -1;
+
+            if (position < 0) {
+                return previousItemDelegate != null ? previousItemDelegate.performAccessibilityAction(host, action, args)
+                        : super.performAccessibilityAction(host, action, args);
+            }
+
+            SwipeButtonRow swipeButtons = obtainSwipeButtons(viewHolder, position, rightSide);
+
+            if (index >= swipeButtons.size()) {
+                return false;
+            }
+
+            swipeButtons.get(index).performClick(position);
+            return true;
+        }
+
+        private void addAccessibilityActions(AccessibilityNodeInfoCompat info, SwipeButtonRow swipeButtons, int[] actionIds) {
+            for (int i = 0, size = Math.min(swipeButtons.size(), actionIds.length); i < size; i++) {
+                info.addAction(swipeButtons.get(i).getAccessibilityAction(actionIds[i]));
+            }
+        }
+
+        private int indexOf(int[] actionIds, int action) {
+            for (int i = 0; i < actionIds.length; i++) {
+                if (actionIds[i] == action) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * Motion-Listener on @{@link RecyclerView} instance. Only observes the touch events, so it
+     * composes with ItemTouchHelper and any other listener of the host.
+     */
+    private class RecyclerViewTouchListener extends RecyclerView.SimpleOnItemTouchListener {
+
+        @Override
+        public boolean onInterceptTouchEvent(@NonNull RecyclerView recyclerView, @NonNull MotionEvent event) {
+
+            int action = event.getActionMasked();
+
+            if (action == MotionEvent.ACTION_CANCEL) {
+
+                // Gesture taken over by a parent, the detector drops its pending tap so no stale
+                // tap is confirmed later
+
+                swipeButtonGestureDetector.onTouchEvent(event);
+                outsideTouch.reset();
+                return false;
+            }
+
+            if (openItems.isEmpty()) {
+
+                // No item is currently swiped
+
+                return false;
+            }
+
+            if (action != MotionEvent.ACTION_DOWN && action != MotionEvent.ACTION_UP && action != MotionEvent.ACTION_MOVE) {
+                return false;
+            }
+
+            if (openItems.capacity() > 1) {
+
+                // Open items stay open while others are swiped, only taps are routed
+
+                swipeButtonGestureDetector.onTouchEvent(event);
+                return false;
+            }
+
+            // Detect pressed SwipeButton within the cached bounds of the swiped item, other cells
+            // of the same grid row are outside
+
+            float x = event.getX();
+            float y = event.getY();
+
+            if (swipedItemLeft <= x && swipedItemRight > x && swipedItemTop < y && swipedItemBottom > y) {
+
+                if (action == MotionEvent.ACTION_DOWN) {
+                    outsideTouch.reset();
+                }
+
+                swipeButtonGestureDetector.onTouchEvent(event);
+                return false;
+            }
+
+            // Motion outside of itemview, frozen items stay open while the list is dragged
+
+            boolean freeze = scrollMode == SCROLL_MODE_FREEZE;
+            boolean close;
+
+            if (action == MotionEvent.ACTION_DOWN) {
+                close = outsideTouch.onDown(freeze);
+            } else if (action == MotionEvent.ACTION_MOVE) {
+                close = outsideTouch.onMove(freeze, scrolling);
+            } else {
+                close = outsideTouch.onUp(freeze, scrolling);
+            }
+
+            if (close) {
+                closeOpenItems();
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Applies the scroll mode once the list starts to scroll and runs the recovery deferred while
+     * it scrolled once it is idle again, so frames of a fling carry no recovery work.
+     */
+    private class SwipeScrollListener extends RecyclerView.OnScrollListener {
+
+        @Override
+        public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+            boolean wasScrolling = scrolling;
+            scrolling = newState != RecyclerView.SCROLL_STATE_IDLE;
+
+            if (scrolling && !wasScrolling) {
+
+                if (scrollMode == SCROLL_MODE_CLOSE && !swiping && !openItems.isEmpty()) {
+                    releaseOpenItems();
+                }
+            } else if (!scrolling) {
+                recoverSwipedItem();
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance of @{@link RecyclerViewSwiper}, which swipes items LEFT and RIGHT.
+     *
+     * @param context      Context environment variable
+     * @param recyclerView Reference on which @{@link RecyclerViewSwiper} should be linked to
+     */
+    public RecyclerViewSwiper(Context context, RecyclerView recyclerView) {
+        this(context, recyclerView, LEFT | RIGHT);
+    }
+
+    /**
+     * Creates a new instance of @{@link RecyclerViewSwiper}.
+     *
+     * @param context         Context environment variable
+     * @param recyclerView    Reference on which @{@link RecyclerViewSwiper} should be linked to
+     * @param swipeDirections Any combination of either {@link ItemTouchHelper#LEFT} and
+     *                        {@link ItemTouchHelper#RIGHT}, or {@link ItemTouchHelper#UP} and
+     *                        {@link ItemTouchHelper#DOWN} for horizontal lists
+     */
+    public RecyclerViewSwiper(Context context, RecyclerView recyclerView, int swipeDirections) {
+        super(0, swipeDirections);
+
+        boolean horizontal = (swipeDirections & (LEFT | RIGHT)) != 0;
+        boolean vertical = (swipeDirections & (UP | DOWN)) != 0;
+
+        if (horizontal == vertical) {
+            throw new IllegalArgumentException("swipeDirections must be either horizontal or vertical");
+        }
+
+        this.vertical = vertical;
+        this.recyclerView = recyclerView;
+        this.minFlingVelocity = ViewConfiguration.get(context).getScaledMinimumFlingVelocity();
+
+        this.swipeButtons = SwipeButtonRow.EMPTY;
+        this.swipeButtonsBufferLeft = new SwipeButtonBuffer<>();
+        this.swipeButtonsBufferRight = new SwipeButtonBuffer<>();
+        this.swipeButtonsBufferLeft.setEvictionListener(evictedRowReleaser);
+        this.swipeButtonsBufferRight.setEvictionListener(evictedRowReleaser);
+
+        observeAdapter(recyclerView.getAdapter());
+
+        this.swipeButtonPool = new SwipeButtonPool();
+        this.recyclerView.addOnChildAttachStateChangeListener(new SwipeButtonReleaseListener());
+
+        this.swipeButtonGestureDetector = new GestureDetector(context, new SwipeButtonGestureDetectorListener());
+        this.recyclerView.addOnItemTouchListener(new RecyclerViewTouchListener());
+        this.recyclerView.addOnScrollListener(new SwipeScrollListener());
+        this.recyclerView.addItemDecoration(new RestoredItemDecoration());
+        this.recyclerView.addOnLayoutChangeListener(new SwipeLayoutListener());
+        installAccessibilityDelegate();
+
+        this.recoverQueue = new SwipeRecoverQueue();
+        this.openItems = new SwipeOpenItems(1);
+
+        resolveSides(recyclerView.getLayoutDirection());
+        attachSwipe();
+    }
+
+    /**
+     * Sets the width of a @{@link SwipeButton} with the default weight. Buttons with a width of
+     * their own keep it, see {@link SwipeButton#setWidth(int)} and
+     * {@link SwipeButton#setWeight(float)}.
+     *
+     * @param width Width of a fully revealed button in pixels
+     */
+    public void setButtonWidth(int width) {
+        this.buttonWidth = width;
+    }
+
+    /**
+     * Sets how swiped items are reset to the "unswiped" state.
+     *
+     * @param closeMode Either {@link #CLOSE_MODE_REBIND} (default) or {@link #CLOSE_MODE_ANIMATE}
+     */
+    public void setCloseMode(int closeMode) {
+        this.closeMode = closeMode;
+    }
+
+    /**
+     * Sets what happens to open items once the list starts to scroll. Frozen items are drawn from
+     * cached faces, so {@link #SCROLL_MODE_FREEZE} creates a @{@link SwipeButtonFaceCache} if
+     * none is set by {@link #setFaceCache(SwipeButtonFaceCache)}.
+     *
+     * @param scrollMode Either {@link #SCROLL_MODE_CLOSE} (default) or {@link #SCROLL_MODE_FREEZE}
+     */
+    public void setScrollMode(int scrollMode) {
+        this.scrollMode = scrollMode;
+        requireFaceCacheWhenFrozen();
+    }
+
+    /**
+     * @return Number of item rebinds triggered by closing swiped items, stays zero with
+     * {@link #CLOSE_MODE_ANIMATE}
+     */
+    public int getRecoverRebindCount() {
+        return recoverRebindCount;
+    }
+
+    /**
+     * @return Time in milliseconds the last in-place close took from request to the item being
+     * released, or -1 if no item was closed in place yet
+     */
+    public long getLastCloseLatencyMillis() {
+        return lastCloseLatencyNanos < 0 ? -1 : lastCloseLatencyNanos / 1000000L;
+    }
+
+    /**
+     * Collects @{@link SwipeMetrics} for every swipe and reports them to the given listener. Pass
+     * null to stop collecting (default), which removes all bookkeeping from the draw path.
+     *
+     * @param metricsListener Receives the metrics of every finished swipe
+     */
+    public void setMetricsListener(SwipeMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        this.metrics = metricsListener != null ? new SwipeMetrics() : null;
+    }
+
+    /**
+     * Sets the engine deciding whether released items snap open or closed and how they settle.
+     *
+     * @param snapEngine Engine used for all items, see @{@link SwipeSnapEngine} for the defaults
+     */
+    public void setSnapEngine(@NonNull SwipeSnapEngine snapEngine) {
+        this.snapEngine = snapEngine;
+    }
+
+    /**
+     * @return Engine deciding whether released items snap open or closed
+     */
+    @NonNull
+    public SwipeSnapEngine getSnapEngine() {
+        return snapEngine;
+    }
+
+    /**
+     * Saves the open items, so they can be reopened once the activity is recreated. Only stable
+     * ids, or adapter positions if the adapter has no stable ids, and the revealed side of the open
+     * items are saved, buttons are built again for the reopened items only.
+     *
+     * @return State of the open items, to be passed to
+     * {@link #onRestoreInstanceState(Parcelable)}
+     */
+    @NonNull
+    public Parcelable onSaveInstanceState() {
+        int[] slots = openItems.slotsByAge();
+        boolean stableIds = observedAdapter != null && observedAdapter.hasStableIds();
+        SwipeSavedState state = new SwipeSavedState(stableIds, slots.length);
+
+        for (int i = 0; i < slots.length; i++) {
+            int position = openItems.positionAt(slots[i]);
+            state.set(i, stableIds ? observedAdapter.getItemId(position) : position, openItems.isRightSideAt(slots[i]));
+        }
+
+        return state;
+    }
+
+    /**
+     * Reopens the items saved by {@link #onSaveInstanceState()}. Items are reopened in place once
+     * their rows are laid out, without rebinding the list. Saved items which are not shown by the
+     * first layout stay closed, as do items beyond {@link #setMaxOpenItems(int)}.
+     *
+     * @param state State of the open items, ignored if null or of another type
+     */
+    public void onRestoreInstanceState(Parcelable state) {
+
+        if (!(state instanceof SwipeSavedState) || ((SwipeSavedState) state).size() == 0) {
+            return;
+        }
+
+        restoredState = (SwipeSavedState) state;
+        recyclerView.requestLayout();
+    }
+
+    /**
+     * Dismisses items fully swiped in the given directions instead of revealing their buttons.
+     * Dismissed items slide out of the screen and have to be removed from the adapter by the
+     * listener, buttons of other directions keep working. Pass null to turn dismissing off
+     * (default).
+     *
+     * @param directions      Any combination of the swipe directions passed to the constructor,
+     *                        {@link ItemTouchHelper#LEFT} and {@link ItemTouchHelper#RIGHT} or
+     *                        {@link ItemTouchHelper#UP} and {@link ItemTouchHelper#DOWN}
+     * @param dismissListener Removes dismissed items from the adapter
+     */
+    public void setDismissListener(int directions, SwipeDismissListener dismissListener) {
+        this.dismissDirections = dismissListener != null ? directions : 0;
+        this.dismissListener = dismissListener;
+    }
+
+    /**
+     * Builds the buttons of visible rows, and the registered buttons of rows about to become
+     * visible, while the main thread is idle, so the first frame of a swipe does not pay for
+     * creating and measuring them. Faces are rendered ahead as well if a face cache is set. Work is
+     * split into short idle slices and paused while the list scrolls. Default value is false.
+     *
+     * @param enabled Whether buttons are prefetched
+     */
+    public void setButtonPrefetchEnabled(boolean enabled) {
+
+        if (enabled && prefetcher == null) {
+            prefetcher = new SwipeButtonPrefetcher();
+            prefetcher.schedule();
+        } else if (!enabled && prefetcher != null) {
+            prefetcher.cancel();
+            prefetcher = null;
+        }
+    }
+
+    /**
+     * Sets how many items may be swiped open at the same time. Opening another item closes the
+     * least recently opened one once the limit is reached, items scrolled off screen are closed
+     * without being rebound. With more than one open item, a tap outside of all open items closes
+     * them. Default value is 1.
+     *
+     * @param maxOpenItems Maximum number of items swiped open at the same time
+     */
+    public void setMaxOpenItems(int maxOpenItems) {
+        openItems.resize(maxOpenItems, recoverQueue);
+
+        if (openItems.indexOf(swipedItemPosition) < 0) {
+            swipedItemPosition = -1;
+            swipeButtons = SwipeButtonRow.EMPTY;
+            hitIndex.clear();
+        }
+
+        recoverSwipedItem();
+    }
+
+    /**
+     * Sets how many rows keep their built @{@link SwipeButton} per side. Least recently swiped rows
+     * are evicted first. Default value is 32.
+     *
+     * @param size Maximum number of buffered rows per side
+     */
+    public void setButtonBufferSize(int size) {
+        swipeButtonsBufferLeft.resize(size);
+        swipeButtonsBufferRight.resize(size);
+    }
+
+    /**
+     * Registers a @{@link SwipeButton} drawn on the right side of all items of the given view
+     * type. Rows of a view type with registered buttons are resolved by a table lookup and
+     * {@link #initSwipeButtonRight(RecyclerView.ViewHolder, List)} is not called for them.
+     *
+     * @param viewType    Adapter view type of the items
+     * @param swipeButton Button shared by all items of the view type
+     */
+    public void registerSwipeButtonRight(int viewType, SwipeButton swipeButton) {
+        registerSwipeButtonRight(viewType, swipeButton, null);
+    }
+
+    /**
+     * Registers a @{@link SwipeButton} drawn on the right side of the items of the given view type
+     * which match the given @predicate.
+     *
+     * @param viewType    Adapter view type of the items
+     * @param swipeButton Button shared by all items of the view type
+     * @param predicate   Decides per position whether the button is shown, or null to always show it
+     */
+    public void registerSwipeButtonRight(int viewType, SwipeButton swipeButton, SwipeButtonPredicate predicate) {
+        registerSwipeButton(swipeButtonTemplatesRight, viewType, swipeButton, predicate);
+        swipeButtonsBufferRight.clear();
+    }
+
+    /**
+     * Registers a @{@link SwipeButton} drawn on the left side of all items of the given view
+     * type. Rows of a view type with registered buttons are resolved by a table lookup and
+     * {@link #initSwipeButtonLeft(RecyclerView.ViewHolder, List)} is not called for them.
+     *
+     * @param viewType    Adapter view type of the items
+     * @param swipeButton Button shared by all items of the view type
+     */
+    public void registerSwipeButtonLeft(int viewType, SwipeButton swipeButton) {
+        registerSwipeButtonLeft(viewType, swipeButton, null);
+    }
+
+    /**
+     * Registers a @{@link SwipeButton} drawn on the left side of the items of the given view type
+     * which match the given @predicate.
+     *
+     * @param viewType    Adapter view type of the items
+     * @param swipeButton Button shared by all items of the view type
+     * @param predicate   Decides per position whether the button is shown, or null to always show it
+     */
+    public void registerSwipeButtonLeft(int viewType, SwipeButton swipeButton, SwipeButtonPredicate predicate) {
+        registerSwipeButton(swipeButtonTemplatesLeft, viewType, swipeButton, predicate);
+        swipeButtonsBufferLeft.clear();
+    }
+
+    private static void registerSwipeButton(SparseArray<SwipeButtonTemplate> templates, int viewType, SwipeButton swipeButton, SwipeButtonPredicate predicate) {
+        SwipeButtonTemplate template = templates.get(viewType);
+
+        if (template == null) {
+            template = new SwipeButtonTemplate();
+            templates.put(viewType, template);
+        }
+
+        template.add(swipeButton, predicate);
+    }
+
+    /**
+     * @return Pool of released @{@link SwipeButton}, to be used within the init methods
+     */
+    public SwipeButtonPool getSwipeButtonPool() {
+        return swipeButtonPool;
+    }
+
+    /**
+     * Replaces the pool of released @{@link SwipeButton}, for example to share one pool between
+     * multiple lists.
+     *
+     * @param swipeButtonPool Pool of released @{@link SwipeButton}
+     */
+    public void setSwipeButtonPool(@NonNull SwipeButtonPool swipeButtonPool) {
+        this.swipeButtonPool = swipeButtonPool;
+    }
+
+    /**
+     * Draws all @{@link SwipeButton} from pre-rendered faces of the given cache. Pass null to draw
+     * every frame from scratch (default). With {@link #SCROLL_MODE_FREEZE}, null is replaced by a
+     * new cache of the swiper.
+     *
+     * @param faceCache Cache of rendered @{@link SwipeButton} faces, can be shared between swipers
+     */
+    public void setFaceCache(SwipeButtonFaceCache faceCache) {
+        this.faceCache = faceCache;
+        requireFaceCacheWhenFrozen();
+    }
+
+    /**
+     * Creates a face cache for {@link #SCROLL_MODE_FREEZE}, which would otherwise redraw every
+     * frozen button from scratch on every frame of a scroll.
+     */
+    private void requireFaceCacheWhenFrozen() {
+        if (scrollMode == SCROLL_MODE_FREEZE && faceCache == null) {
+            faceCache = new SwipeButtonFaceCache(recyclerView.getContext());
+        }
+    }
+
+    /**
+     * Attach Swipe-Implementation to the given @{@link RecyclerView}
+     */
+    private void attachSwipe() {
+        itemTouchHelper = new ItemTouchHelper(this);
+        itemTouchHelper.attachToRecyclerView(this.recyclerView);
+    }
+
+    @Override
+    public void onSelectedChanged(RecyclerView.ViewHolder viewHolder, int actionState) {
+        super.onSelectedChanged(viewHolder, actionState);
+
+        swiping = viewHolder != null && actionState == ItemTouchHelper.ACTION_STATE_SWIPE;
+
+        if (swiping) {
+
+            // Reopened item swiped again, ItemTouchHelper takes over its translation
+
+            restoredViewHolders.remove(viewHolder);
+        }
+
+        if (metrics != null && viewHolder != null && actionState == ItemTouchHelper.ACTION_STATE_SWIPE) {
+
+            // Item picked up, a new swipe starts
+
+            finishSwipeMetrics();
+            metrics.reset(viewHolder.getAdapterPosition());
+
+            if (faceCache != null) {
+                metricsFaceCacheHits = faceCache.getHitCount();
+                metricsFaceCacheMisses = faceCache.getMissCount();
+            }
+        }
+    }
+
+    @Override
+    public boolean onMove(@NonNull RecyclerView recyclerView, @NonNull RecyclerView.ViewHolder viewHolder, @NonNull RecyclerView.ViewHolder target) {
+        return false;
+    }
+
+    /**
+     * Item triggered to be fully "swiped". Handles logic for detecting what item was swiped and
+     * saves the current swiped item position. Furthermore it removes previous swiped items to
+     * "unswiped" state once more items are open than allowed by {@link #setMaxOpenItems(int)}.
+     *
+     * @param viewHolder Holder instance of the given @{@link RecyclerView}
+     * @param direction  Defines in which direction user swiped
+     */
+    @Override
+    public void onSwiped(@NonNull RecyclerView.ViewHolder viewHolder, int direction) {
+
+        // Item is fully swiped and triggered to be "swiped"
+
+        int position = viewHolder.getAdapterPosition();
+
+        if ((direction & dismissDirections) != 0) {
+
+            // Item is dismissed, it is removed from the adapter instead of being opened
+
+            openItems.close(position);
+
+            if (position == swipedItemPosition) {
+                swipedItemPosition = -1;
+                swipeButtons = SwipeButtonRow.EMPTY;
+                hitIndex.clear();
+            }
+
+            dismissListener.onDismiss(position);
+            return;
+        }
+
+        // Buttons of the end side are revealed by a swipe towards the start, or up
+
+        swipedRight = sides.isRightSide(direction == LEFT || direction == UP ? -1f : 1f);
+
+        // new item was swiped, therefore least recently swiped item queue for "unswipe" if too many are open
+
+        recoverQueue.add(openItems.open(position, swipedRight));
+
+        swipedItemPosition = position;
+
+        SwipeButtonRow buffer = getSwipeButtonsBuffer(swipedRight).get(getBufferKey(viewHolder, position));
+
+        // Buffers are kept, so swiping a recently swiped item again does not rebuild its buttons
+
+        swipeButtons = buffer != null ? buffer : SwipeButtonRow.EMPTY;
+
+        layoutHitIndex(viewHolder.itemView, position, swipedRight, swipeButtons);
+        updateSwipedItemBounds(viewHolder.itemView);
+
+        recoverSwipedItem();
+
+    }
+
+    @Override
+    public float getSwipeThreshold(@NonNull RecyclerView.ViewHolder viewHolder) {
+        float translation = getTranslation(viewHolder.itemView);
+
+        if (isDismissDirection(translation)) {
+
+            // Dismissed items have to be dragged across half of their width
+
+            return 0.5f;
+        }
+
+        // Threshold of the swiped row and side, ItemTouchHelper expects a fraction of the list size
+        // along the swipe axis
+
+        float revealWidth = getRevealWidth(viewHolder, sides.isRightSide(translation));
+        int width = vertical ? recyclerView.getHeight() : recyclerView.getWidth();
+
+        if (revealWidth <= 0f || width <= 0) {
+
+            // Nothing to reveal
+
+            return Float.POSITIVE_INFINITY;
+        }
+
+        float velocity = viewHolder == draggedViewHolder ? Math.signum(translation) * draggedVelocity : 0f;
+        return snapEngine.getOpenThreshold(revealWidth, velocity, minFlingVelocity) / width;
+    }
+
+    @Override
+    public float getSwipeEscapeVelocity(float defaultValue) {
+        return snapEngine.getEscapeVelocity(defaultValue);
+    }
+
+    @Override
+    public float getSwipeVelocityThreshold(float defaultValue) {
+        return snapEngine.getVelocityThreshold(defaultValue);
+    }
+
+    @Override
+    public long getAnimationDuration(@NonNull RecyclerView recyclerView, int animationType, float animateDx, float animateDy) {
+        RecyclerView.ViewHolder viewHolder = draggedViewHolder;
+        draggedViewHolder = null;
+
+        if (viewHolder == null || (animationType != ItemTouchHelper.ANIMATION_TYPE_SWIPE_SUCCESS && animationType != ItemTouchHelper.ANIMATION_TYPE_SWIPE_CANCEL)) {
+            return super.getAnimationDuration(recyclerView, animationType, animateDx, animateDy);
+        }
+
+        // Called right before the released item is animated, settle it from its clamped translation
+        // to its buttons or back to zero instead of sliding out of the screen
+
+        float start = draggedTranslation;
+        float revealWidth = getRevealWidth(viewHolder, sides.isRightSide(start));
+        boolean opening = animationType == ItemTouchHelper.ANIMATION_TYPE_SWIPE_SUCCESS;
+        float target = opening ? Math.signum(start) * revealWidth : 0f;
+
+        long duration = snapEngine.getSettleDuration(Math.abs(target - start), revealWidth);
+        removeSettle(viewHolder);
+        settles.add(new Settle(viewHolder, start, target, duration, snapEngine.getSettleInterpolator(opening)));
+
+        return duration;
+    }
+
+    @Override
+    public void clearView(@NonNull RecyclerView recyclerView, @NonNull RecyclerView.ViewHolder viewHolder) {
+        super.clearView(recyclerView, viewHolder);
+        removeSettle(viewHolder);
+    }
+
+    @Override
+    public void onChildDraw(@NonNull Canvas canvas, @NonNull RecyclerView recyclerView, @NonNull RecyclerView.ViewHolder viewHolder, float dX, float dY, int actionState, boolean isCurrentlyActive) {
+        Trace.beginSection("RecyclerViewSwiper#onChildDraw");
+
+        try {
+            if (metrics == null) {
+                drawChild(canvas, recyclerView, viewHolder, dX, dY, actionState, isCurrentlyActive);
+            } else {
+                long start = System.nanoTime();
+                drawChild(canvas, recyclerView, viewHolder, dX, dY, actionState, isCurrentlyActive);
+                metrics.recordFrame(System.nanoTime() - start);
+            }
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Draws the swiped item and its @{@link SwipeButton}, see
+     * {@link #onChildDraw(Canvas, RecyclerView, RecyclerView.ViewHolder, float, float, int, boolean)}.
+     */
+    private void drawChild(Canvas canvas, RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder, float dX, float dY, int actionState, boolean isCurrentlyActive) {
+
+        int position = viewHolder.getAdapterPosition();
+        View itemView = viewHolder.itemView;
+
+        // Displacement along the swipe axis, the other one is left to ItemTouchHelper
+
+        float delta = vertical ? dY : dX;
+        float translation = delta;
+
+        if (position < 0) {
+
+            // Invalid position, removed items were already dropped from the open items by the
+            // adapter observer, so other open items are left alone
+
+            return;
+        }
+
+        if (position == swipedItemPosition) {
+            updateSwipedItemBounds(itemView);
+        }
+
+        if (findCloseAnimation(viewHolder) != null) {
+
+            // Closing in place, the translation is driven by the close animation
+
+            drawTranslatedSwipeButtons(canvas, viewHolder, position);
+            return;
+        }
+
+        if (scrolling && !isCurrentlyActive && openItems.indexOf(position) >= 0) {
+
+            // Open item frozen while the list scrolls, it keeps its translation and buttons
+
+            drawTranslatedSwipeButtons(canvas, viewHolder, position);
+            return;
+        }
+
+        if (actionState == ItemTouchHelper.ACTION_STATE_SWIPE && delta != 0 && !isDismissDirection(delta)) {
+
+            observeAdapter(recyclerView.getAdapter());
+            long key = getBufferKey(viewHolder, position);
+
+            // Swipe from right to left ( <-- ), or upwards, reveals the buttons of the end side
+
+            boolean rightSide = sides.isRightSide(delta);
+            SwipeButtonBuffer<SwipeButtonRow> buffers = getSwipeButtonsBuffer(rightSide);
+            SwipeButtonRow buffer = buffers.get(key);
+
+            if (buffer == null) {
+
+                // Sets the item-list
+
+                buffer = buildSwipeButtons(viewHolder, position, rightSide);
+                buffers.put(key, buffer);
+                recordBufferMiss(buffer);
+            } else if (metrics != null) {
+                metrics.recordBufferHit();
+            }
+
+            // Make sure to swipe just as wide as the width of all pre-defined SwipeButtons together
+            // Swipe to the left, or up, means coordinates are negative values!
+
+            float limit = Math.copySign(buffer.getRevealWidth(buttonWidth), delta);
+            translation = delta < 0 ? Math.max(delta, limit) : Math.min(delta, limit);
+            translation = trackTranslation(recyclerView, viewHolder, delta, translation, limit, isCurrentlyActive);
+
+            // Draw defined SwipeButtons on the revealed side of the specific item
+
+            drawSwipeButtons(canvas, itemView, buffer, position, translation);
+        } else if (isCurrentlyActive && viewHolder == draggedViewHolder) {
+
+            // Dragged into a dismiss direction, the item slides out instead of settling
+
+            draggedViewHolder = null;
+        }
+
+        if (vertical) {
+            super.onChildDraw(canvas, recyclerView, viewHolder, dX, translation, actionState, isCurrentlyActive);
+        } else {
+            super.onChildDraw(canvas, recyclerView, viewHolder, translation, dY, actionState, isCurrentlyActive);
+        }
+    }
+
+    /**
+     * Tracks the translation and velocity of the dragged item, and replaces the translation of a
+     * released item by its settle curve.
+     *
+     * @param delta       The amount of displacement along the swipe axis caused by user's action
+     * @param translation Translation of the item clamped to the width of its buttons
+     * @param limit       Translation revealing all buttons of the swiped side
+     * @return Translation to draw the item with
+     */
+    private float trackTranslation(RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder, float delta, float translation, float limit, boolean isCurrentlyActive) {
+        long frameMillis = AnimationUtils.currentAnimationTimeMillis();
+
+        if (isCurrentlyActive) {
+
+            if (viewHolder != draggedViewHolder) {
+
+                // Grabbed again while settling, the finger takes over
+
+                removeSettle(viewHolder);
+                draggedVelocity = 0f;
+            } else if (frameMillis > draggedFrameMillis) {
+
+                // Velocity of the finger, smoothed over the last frames
+
+                float velocity = (delta - draggedDelta) * 1000f / (frameMillis - draggedFrameMillis);
+                draggedVelocity = 0.5f * (draggedVelocity + velocity);
+            }
+
+            draggedViewHolder = viewHolder;
+            draggedDelta = delta;
+            draggedTranslation = translation;
+            draggedFrameMillis = frameMillis;
+            return translation;
+        }
+
+        Settle settle = findSettle(viewHolder);
+
+        if (settle == null) {
+            return translation;
+        }
+
+        float fraction = settle.fractionAt(frameMillis);
+
+        if (fraction < 1f) {
+            recyclerView.postInvalidateOnAnimation();
+        } else {
+            settles.remove(settle);
+        }
+
+        // Springs bouncing past their target stay within the buttons of the swiped side
+
+        float settled = settle.translationAt(fraction);
+        return limit < 0 ? Math.min(0f, Math.max(limit, settled)) : Math.max(0f, Math.min(limit, settled));
+    }
+
+    private Settle findSettle(RecyclerView.ViewHolder viewHolder) {
+        for (int i = 0, size = settles.size(); i < size; i++) {
+            Settle settle = settles.get(i);
+
+            if (settle.viewHolder == viewHolder) {
+                return settle;
+            }
+        }
+
+        return null;
+    }
+
+    private void removeSettle(RecyclerView.ViewHolder viewHolder) {
+        Settle settle = findSettle(viewHolder);
+
+        if (settle != null) {
+            settles.remove(settle);
+        }
+    }
+
+    /**
+     * @param viewHolder Holder of an item
+     * @param rightSide  Whether the buttons on the right side of the item are meant
+     * @return Width of the built buttons of the given side of the item, 0 if none are built
+     */
+    private float getRevealWidth(RecyclerView.ViewHolder viewHolder, boolean rightSide) {
+        int position = viewHolder.getAdapterPosition();
+
+        if (position < 0) {
+            return 0f;
+        }
+
+        SwipeButtonRow buffer = getSwipeButtonsBuffer(rightSide).get(getBufferKey(viewHolder, position));
+        return buffer != null ? buffer.getRevealWidth(buttonWidth) : 0f;
+    }
+
+    /**
+     * Reopens the laid out items of the restored state, the state is dropped afterwards.
+     */
+    private void reopenRestoredItems() {
+        SwipeSavedState state = restoredState;
+        RecyclerView.Adapter<?> adapter = recyclerView.getAdapter();
+        restoredState = null;
+
+        if (adapter == null || state.hasStableIds() != adapter.hasStableIds()) {
+
+            // Keys do not identify the same items anymore
+
+            return;
+        }
+
+        observeAdapter(adapter);
+
+        // Only the most recently opened items fit, older ones stay closed
+
+        int oldest = Math.max(0, state.size() - openItems.capacity());
 
-    private GestureDetector swipeButtonGestureDetector;
+        for (int i = 0, count = recyclerView.getChildCount(); i < count; i++) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.getChildViewHolder(recyclerView.getChildAt(i));
+            int position = viewHolder.getAdapterPosition();
 
-    private List<SwipeButton> swipeButtons;
+            if (position < 0) {
+                continue;
+            }
 
-    private Map<Integer, List<SwipeButton>> swipeButtonsBufferLeft;
-    private Map<Integer, List<SwipeButton>> swipeButtonsBufferRight;
+            int index = state.indexOfKey(getBufferKey(viewHolder, position));
 
-    private Queue<Integer> recoverQueue;
+            if (index >= oldest) {
+                reopenItem(viewHolder, position, state.isRightSideAt(index));
+            }
+        }
 
-    private int swipedItemPosition = -1;
-    private float swipeThreshold = 0.5f;
+        recoverSwipedItem();
+    }
 
     /**
-     * Gesture-Listener will notify when a motion gesture event has occured. For example, when
-     * a @{@link SwipeButton} gets pressed.
+     * Opens the given item in place, as if it was swiped open.
+     *
+     * @param viewHolder Holder of the item
+     * @param position   Adapter position of the item
+     * @param rightSide  Whether the buttons of the right side are revealed
      */
-    private class SwipeButtonGestureDetectorListener extends GestureDetector.SimpleOnGestureListener {
+    private void reopenItem(RecyclerView.ViewHolder viewHolder, int position, boolean rightSide) {
+        SwipeButtonRow buffer = obtainSwipeButtons(viewHolder, position, rightSide);
+        float revealWidth = buffer.getRevealWidth(buttonWidth);
 
-        @Override
-        public boolean onSingleTapConfirmed(MotionEvent e) {
+        if (revealWidth <= 0f) {
+            return;
+        }
 
-            for (SwipeButton swipeButton : swipeButtons) {
-                if (swipeButton.onClick(e.getX(), e.getY())) {
-                    break;
-                }
-            }
+        recoverQueue.add(openItems.open(position, rightSide));
+        restoredViewHolders.add(viewHolder);
+        setTranslation(viewHolder.itemView, sides.signOf(rightSide) * revealWidth);
 
-            return true;
+        swipedItemPosition = position;
+        swipedRight = rightSide;
+        swipeButtons = buffer;
+
+        layoutHitIndex(viewHolder.itemView, position, rightSide, buffer);
+        updateSwipedItemBounds(viewHolder.itemView);
+    }
+
+    /**
+     * @param delta The amount of displacement along the swipe axis caused by user's action
+     * @return Whether the item is swiped in a dismiss direction, so it slides out without buttons
+     */
+    private boolean isDismissDirection(float delta) {
+        return delta != 0 && (dismissDirections & SwipeDirection.of(vertical, delta).flag) != 0;
+    }
+
+    /**
+     * @param itemView Whole view of an item
+     * @return Translation of the item along the swipe axis
+     */
+    private float getTranslation(View itemView) {
+        return vertical ? itemView.getTranslationY() : itemView.getTranslationX();
+    }
+
+    /**
+     * @param itemView    Whole view of an item
+     * @param translation Translation of the item along the swipe axis
+     */
+    private void setTranslation(View itemView, float translation) {
+        if (vertical) {
+            itemView.setTranslationY(translation);
+        } else {
+            itemView.setTranslationX(translation);
         }
     }
 
     /**
-     * Motion-Listener on @{@link RecyclerView} instance.
+     * Builds the missing buttons of attached rows and resolves the registered buttons of the rows
+     * next to them, until the given deadline passes.
+     *
+     * @param deadlineNanos Time at which the current idle slice ends, see {@link System#nanoTime()}
+     * @return Whether all rows are prefetched
      */
-    private class RecyclerViewTouchListener implements View.OnTouchListener {
+    private boolean prefetchSwipeButtons(long deadlineNanos) {
+        RecyclerView.Adapter<?> adapter = recyclerView.getAdapter();
 
-        @Override
-        public boolean onTouch(View v, MotionEvent event) {
+        if (adapter == null) {
+            return true;
+        }
 
-            if (swipedItemPosition < 0) {
+        observeAdapter(adapter);
 
-                // No item is currently swiped
+        int firstPosition = Integer.MAX_VALUE;
+        int lastPosition = -1;
+        int rowSize = 0;
+
+        for (int i = 0, count = recyclerView.getChildCount(); i < count; i++) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.getChildViewHolder(recyclerView.getChildAt(i));
+            int position = viewHolder.getAdapterPosition();
+
+            if (position < 0) {
+                continue;
+            }
+
+            firstPosition = Math.min(firstPosition, position);
+            lastPosition = Math.max(lastPosition, position);
+
+            // Size of the item across the swipe axis, the full size of every face
+
+            rowSize = vertical ? viewHolder.itemView.getWidth() : viewHolder.itemView.getHeight();
+
+            long key = getBufferKey(viewHolder, position);
+
+            if (swipeButtonsBufferRight.get(key) == null) {
+                SwipeButtonRow buffer = buildSwipeButtons(viewHolder, position, true);
+                swipeButtonsBufferRight.put(key, buffer);
+                prefetchFaces(buffer, rowSize);
+            }
+
+            if (swipeButtonsBufferLeft.get(key) == null) {
+                SwipeButtonRow buffer = buildSwipeButtons(viewHolder, position, false);
+                swipeButtonsBufferLeft.put(key, buffer);
+                prefetchFaces(buffer, rowSize);
+            }
 
+            if (System.nanoTime() >= deadlineNanos) {
                 return false;
             }
+        }
 
-            // Detect pressed SwipeButton
+        if (lastPosition < 0) {
+            return true;
+        }
 
-            Point point = new Point((int) event.getRawX(), (int) event.getRawY());
+        // Rows next to the attached ones have no ViewHolder yet, only registered buttons are resolved
 
-            RecyclerView.ViewHolder swipedViewHolder = recyclerView.findViewHolderForAdapterPosition(swipedItemPosition);
-            View swipedItem = swipedViewHolder.itemView;
-            Rect rect = new Rect();
-            swipedItem.getGlobalVisibleRect(rect);
+        int itemCount = adapter.getItemCount();
 
-            if (event.getAction() == MotionEvent.ACTION_DOWN || event.getAction() == MotionEvent.ACTION_UP || event.getAction() == MotionEvent.ACTION_MOVE) {
+        for (int offset = 1; offset <= PREFETCH_AHEAD_ROWS; offset++) {
+            prefetchRegisteredSwipeButtons(adapter, firstPosition - offset, itemCount, rowSize);
+            prefetchRegisteredSwipeButtons(adapter, lastPosition + offset, itemCount, rowSize);
 
-                if (rect.top < point.y && rect.bottom > point.y) {
-                    swipeButtonGestureDetector.onTouchEvent(event);
-                } else {
+            if (System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+        }
 
-                    // Motion outside of itemview
+        return true;
+    }
 
-                    recoverQueue.add(swipedItemPosition);
-                    swipedItemPosition = -1;
-                    recoverSwipedItem();
-                }
+    private void prefetchRegisteredSwipeButtons(RecyclerView.Adapter<?> adapter, int position, int itemCount, int rowSize) {
+
+        if (position < 0 || position >= itemCount) {
+            return;
+        }
+
+        long key = adapter.hasStableIds() ? adapter.getItemId(position) : position;
+        int viewType = adapter.getItemViewType(position);
+
+        if (swipeButtonsBufferRight.get(key) == null) {
+            SwipeButtonRow buffer = resolveSwipeButtons(swipeButtonTemplatesRight, viewType, position);
+
+            if (buffer != null) {
+                swipeButtonsBufferRight.put(key, buffer);
+                prefetchFaces(buffer, rowSize);
+            }
+        }
 
+        if (swipeButtonsBufferLeft.get(key) == null) {
+            SwipeButtonRow buffer = resolveSwipeButtons(swipeButtonTemplatesLeft, viewType, position);
+
+            if (buffer != null) {
+                swipeButtonsBufferLeft.put(key, buffer);
+                prefetchFaces(buffer, rowSize);
             }
+        }
+    }
 
-            return false;
+    private void prefetchFaces(SwipeButtonRow swipeButtons, int rowSize) {
+
+        if (faceCache == null || rowSize <= 0) {
+            return;
+        }
+
+        float[] offsets = swipeButtons.layout(buttonWidth);
+
+        for (int i = 0, size = swipeButtons.size(); i < size; i++) {
+            int extent = Math.round(offsets[i + 1] - offsets[i]);
+
+            if (vertical) {
+                swipeButtons.get(i).prefetchFace(faceCache, rowSize, extent);
+            } else {
+                swipeButtons.get(i).prefetchFace(faceCache, extent, rowSize);
+            }
+        }
+    }
+
+    private void recordBufferMiss(SwipeButtonRow buffer) {
+        if (metrics != null) {
+            metrics.recordBufferMiss(buffer.size());
         }
     }
 
     /**
-     * Creates a new instance of @{@link RecyclerViewSwiper}.
-     *
-     * @param context      Context environment variable
-     * @param recyclerView Reference on which @{@link RecyclerViewSwiper} should be linked to
+     * Reports the metrics of the current swipe to the listener, if a swipe is tracked.
      */
-    public RecyclerViewSwiper(Context context, RecyclerView recyclerView) {
-        super(0, LEFT | RIGHT);
+    private void finishSwipeMetrics() {
 
-        this.recyclerView = recyclerView;
+        if (metrics == null || metrics.getPosition() < 0) {
+            return;
+        }
 
-        this.swipeButtons = new ArrayList<>();
-        this.swipeButtonsBufferLeft = new HashMap<>();
-        this.swipeButtonsBufferRight = new HashMap<>();
+        if (faceCache != null) {
+            metrics.recordFaceCache(faceCache.getHitCount() - metricsFaceCacheHits, faceCache.getMissCount() - metricsFaceCacheMisses);
+        }
 
-        this.swipeButtonGestureDetector = new GestureDetector(context, new SwipeButtonGestureDetectorListener());
-        this.recyclerView.setOnTouchListener(new RecyclerViewTouchListener());
+        metricsListener.onSwipeMetrics(metrics);
+        metrics.reset(-1);
+    }
 
-        this.recoverQueue = new LinkedList<Integer>() {
-            @Override
-            public boolean add(Integer integer) {
-                return contains(integer) ? false : super.add(integer);
-            }
-        };
+    /**
+     * Starts closing the given swiped item in place, see {@link #CLOSE_MODE_ANIMATE}.
+     *
+     * @param viewHolder Holder of the swiped item
+     */
+    private void startCloseAnimation(RecyclerView.ViewHolder viewHolder) {
 
-        attachSwipe();
+        if (findCloseAnimation(viewHolder) != null) {
+            return;
+        }
+
+        CloseAnimation closeAnimation = new CloseAnimation(viewHolder);
+        closeAnimations.add(closeAnimation);
+        closeAnimation.start();
     }
 
-    public void setButtonWidth(int width) {
-        this.buttonWidth = width;
+    private CloseAnimation findCloseAnimation(RecyclerView.ViewHolder viewHolder) {
+        for (int i = 0, size = closeAnimations.size(); i < size; i++) {
+            CloseAnimation closeAnimation = closeAnimations.get(i);
+
+            if (closeAnimation.viewHolder == viewHolder) {
+                return closeAnimation;
+            }
+        }
+
+        return null;
     }
 
     /**
-     * Attach Swipe-Implementation to the given @{@link RecyclerView}
+     * Draws the buttons of an item closing in place or frozen while the list scrolls, as far as
+     * its current translation reveals them. Buttons are only looked up, never built.
+     *
+     * @param canvas     Area where the buttons gets drawn to
+     * @param viewHolder Holder of the item
+     * @param position   Adapter position of the item
      */
-    private void attachSwipe() {
-        ItemTouchHelper itemTouchHelper = new ItemTouchHelper(this);
-        itemTouchHelper.attachToRecyclerView(this.recyclerView);
-    }
+    private void drawTranslatedSwipeButtons(Canvas canvas, RecyclerView.ViewHolder viewHolder, int position) {
+        View itemView = viewHolder.itemView;
+        float translation = getTranslation(itemView);
 
-    @Override
-    public boolean onMove(@NonNull RecyclerView recyclerView, @NonNull RecyclerView.ViewHolder viewHolder, @NonNull RecyclerView.ViewHolder target) {
-        return false;
+        if (translation == 0f) {
+            return;
+        }
+
+        SwipeButtonRow buffer = getSwipeButtonsBuffer(sides.isRightSide(translation)).get(getBufferKey(viewHolder, position));
+
+        if (buffer != null) {
+            drawSwipeButtons(canvas, itemView, buffer, position, translation);
+        }
     }
 
     /**
-     * Item triggered to be fully "swiped". Handles logic for detecting what item was swiped and
-     * saves the current swiped item position. Furthermore it removes all previous swiped items to
-     * "unswiped" state (in general, just one single item can be swiped).
+     * Builds the buttons of one side of an item, either from the registered templates of its view
+     * type or by the init methods.
      *
-     * @param viewHolder Holder instance of the given @{@link RecyclerView}
-     * @param direction  Defines in which direction user swiped
+     * @param viewHolder Related Holder of @{@link RecyclerView}
+     * @param position   Adapter position of the item
+     * @param rightSide  Whether the buttons of the right side are built
+     * @return Buttons of the item
      */
-    @Override
-    public void onSwiped(@NonNull RecyclerView.ViewHolder viewHolder, int direction) {
+    private SwipeButtonRow buildSwipeButtons(RecyclerView.ViewHolder viewHolder, int position, boolean rightSide) {
+        Trace.beginSection(rightSide ? "RecyclerViewSwiper#initSwipeButtonRight" : "RecyclerViewSwiper#initSwipeButtonLeft");
 
-        // Item is fully swiped and triggered to be "swiped"
+        try {
+            SwipeButtonRow buffer = resolveSwipeButtons(rightSide ? swipeButtonTemplatesRight : swipeButtonTemplatesLeft,
+                    viewHolder.getItemViewType(), position);
 
-        int position = viewHolder.getAdapterPosition();
+            if (buffer == null) {
+                List<SwipeButton> swipeButtons = new ArrayList<>();
 
-        if (swipedItemPosition != position) {
+                if (rightSide) {
+                    initSwipeButtonRight(viewHolder, swipeButtons);
+                } else {
+                    initSwipeButtonLeft(viewHolder, swipeButtons);
+                }
 
-            // new item was swiped, therefore previous item queue for "unswipe"
+                buffer = new SwipeButtonRow(swipeButtons);
+            }
 
-            recoverQueue.add(swipedItemPosition);
+            return buffer;
+        } finally {
+            Trace.endSection();
         }
+    }
 
-        swipedItemPosition = position;
+    /**
+     * Resolves the buttons of an item from the registered templates of its view type.
+     *
+     * @param templates Registered templates of one side
+     * @param viewType  Adapter view type of the item
+     * @param position  Adapter position of the item
+     * @return Buttons of the item, or null if no buttons are registered for its view type
+     */
+    private static SwipeButtonRow resolveSwipeButtons(SparseArray<SwipeButtonTemplate> templates, int viewType, int position) {
+        SwipeButtonTemplate template = templates.get(viewType);
+        return template != null ? template.resolve(position) : null;
+    }
 
-        if (direction == LEFT) {
+    /**
+     * @param key Key of a row within the button buffers
+     * @return Whether the row belongs to an open item, whose buttons may still be drawn
+     */
+    private boolean isOpenBufferKey(long key) {
 
-            // Swiped from right to left ( <-- )
+        if (observedAdapter == null || !observedAdapter.hasStableIds()) {
+            return key == (int) key && openItems.indexOf((int) key) >= 0;
+        }
 
-            if (swipeButtonsBufferRight.containsKey(swipedItemPosition)) {
-                swipeButtons = swipeButtonsBufferRight.get(swipedItemPosition);
-            } else {
-                swipeButtons.clear();
+        // Keys are stable ids, which are only known to the laid out holders of the open items
+
+        for (int slot = 0, size = openItems.size(); slot < size; slot++) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.findViewHolderForAdapterPosition(openItems.positionAt(slot));
+
+            if (viewHolder != null && viewHolder.getItemId() == key) {
+                return true;
             }
         }
 
-        if (direction == RIGHT) {
+        return false;
+    }
+
+    /**
+     * Returns the key of the given item within the button buffers.
+     *
+     * @param viewHolder Related Holder of @{@link RecyclerView}
+     * @param position   Adapter position of the item
+     * @return Stable item id if the adapter has stable ids, otherwise the adapter position
+     */
+    private long getBufferKey(RecyclerView.ViewHolder viewHolder, int position) {
+        return observedAdapter != null && observedAdapter.hasStableIds() ? viewHolder.getItemId() : position;
+    }
+
+    /**
+     * Registers the buffer observer on the given adapter, if it is not observed yet.
+     *
+     * @param adapter Current adapter of the @{@link RecyclerView}
+     */
+    private void observeAdapter(RecyclerView.Adapter<?> adapter) {
 
-            // Swiped from left to right ( --> )
+        if (adapter == observedAdapter) {
+            return;
+        }
 
-            if (swipeButtonsBufferLeft.containsKey(swipedItemPosition)) {
-                swipeButtons = swipeButtonsBufferLeft.get(swipedItemPosition);
-            } else {
-                swipeButtons.clear();
-            }
+        if (observedAdapter != null) {
+            observedAdapter.unregisterAdapterDataObserver(adapterDataObserver);
         }
 
-        swipeButtonsBufferRight.clear();
+        // Buttons of another adapter are of no use anymore
+
         swipeButtonsBufferLeft.clear();
-        swipeThreshold = 0.5f * swipeButtons.size() * buttonWidth;
-        recoverSwipedItem();
+        swipeButtonsBufferRight.clear();
 
-    }
+        observedAdapter = adapter;
 
-    @Override
-    public float getSwipeThreshold(@NonNull RecyclerView.ViewHolder viewHolder) {
-        return swipeThreshold;
+        if (adapter != null) {
+            adapter.registerAdapterDataObserver(adapterDataObserver);
+        }
     }
 
-    @Override
-    public float getSwipeEscapeVelocity(float defaultValue) {
-        return 0.1f * defaultValue;
+    /**
+     * Releases the given buttons of a row into the @{@link SwipeButtonPool}.
+     *
+     * @param swipeButtons Buttons of the row, or null if the row had none
+     */
+    private void releaseSwipeButtons(SwipeButtonRow swipeButtons) {
+
+        if (swipeButtons == null) {
+            return;
+        }
+
+        for (int i = 0, size = swipeButtons.size(); i < size; i++) {
+            swipeButtonPool.putRecycledButton(swipeButtons.get(i));
+        }
     }
 
-    @Override
-    public float getSwipeVelocityThreshold(float defaultValue) {
-        return 5.0f * defaultValue;
+    /**
+     * Fires changed events on the queued items, which triggers a re-drawn and resets swiped
+     * views. Adjacent items are coalesced into one range notification with
+     * {@link #PAYLOAD_RECOVER}. Only called on the main thread, like all callbacks of
+     * ItemTouchHelper and the adapter observer.
+     */
+    private void recoverSwipedItem() {
+
+        // fire changed event on swiped items, so these are going to re-drawn and resets swipe view to non-swiped
+        // Deferred while the list scrolls, the scroll listener recovers them once it is idle
+
+        if (!recoverQueue.isEmpty() && !scrolling) {
+            Trace.beginSection("RecyclerViewSwiper#recoverSwipedItem");
+            try {
+                recoverQueue.drain(recoverRangeConsumer);
+            } finally {
+                Trace.endSection();
+            }
+        }
     }
 
-    @Override
-    public void onChildDraw(@NonNull Canvas canvas, @NonNull RecyclerView recyclerView, @NonNull RecyclerView.ViewHolder viewHolder, float dX, float dY, int actionState, boolean isCurrentlyActive) {
+    /**
+     * Closes all open items and resets them to the "unswiped" state.
+     */
+    private void closeOpenItems() {
+        openItems.drainTo(recoverQueue);
+        swipedItemPosition = -1;
+        recoverSwipedItem();
+        finishSwipeMetrics();
+    }
 
-        int position = viewHolder.getAdapterPosition();
-        float translationX = dX;
-        View itemView = viewHolder.itemView;
+    /**
+     * Closes all open items in place once the list starts to scroll. Their views are released
+     * right away, so ItemTouchHelper stops drawing them, the change notifications follow once the
+     * list is idle.
+     */
+    private void releaseOpenItems() {
+        for (int i = 0, count = recyclerView.getChildCount(); i < count; i++) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.getChildViewHolder(recyclerView.getChildAt(i));
 
-        if (position < 0) {
+            if (openItems.indexOf(viewHolder.getAdapterPosition()) < 0) {
+                continue;
+            }
 
-            // Invalid position
+            removeSettle(viewHolder);
 
-            swipedItemPosition = position;
-            return;
+            if (restoredViewHolders.remove(viewHolder)) {
+                setTranslation(viewHolder.itemView, 0f);
+            } else {
+                itemTouchHelper.onChildViewDetachedFromWindow(viewHolder.itemView);
+            }
         }
 
-        if (actionState == ItemTouchHelper.ACTION_STATE_SWIPE) {
+        swipeButtons = SwipeButtonRow.EMPTY;
+        hitIndex.clear();
+        closeOpenItems();
+    }
+
+    /**
+     * Returns the holder of the open item at the given coordinates. Only the open items are
+     * checked, at most {@link #setMaxOpenItems(int)}, against their layout bounds without the
+     * translation, since the revealed buttons lie where the translated row moved away from.
+     *
+     * @param x Coordinate on horizontal axis
+     * @param y Coordinate on vertical axis
+     * @return Holder of the open item, or null if there is no open item at the coordinates
+     */
+    private RecyclerView.ViewHolder findOpenViewHolder(float x, float y) {
 
-            if (dX < 0) {
+        if (openItems.capacity() == 1) {
 
-                // Swipe from right to left ( <-- )
+            // Single open item, its bounds were already checked by the touch listener
 
-                List<SwipeButton> buffer = new ArrayList<>();
+            return recyclerView.findViewHolderForAdapterPosition(swipedItemPosition);
+        }
 
-                if (!swipeButtonsBufferRight.containsKey(position)) {
+        for (int slot = 0, size = openItems.size(); slot < size; slot++) {
+            RecyclerView.ViewHolder viewHolder = recyclerView.findViewHolderForAdapterPosition(openItems.positionAt(slot));
 
-                    // Sets the item-list
+            if (viewHolder == null) {
+                continue;
+            }
 
-                    initSwipeButtonRight(viewHolder, buffer);
-                    swipeButtonsBufferRight.put(position, buffer);
-                } else {
-                    buffer = swipeButtonsBufferRight.get(position);
-                }
+            View itemView = viewHolder.itemView;
 
-                // Make sure to swipe just as wide as the width of all pre-defined SwipeButtons together
-                // Swipe to the left, means coordinates are negative values!
+            if (itemView.getLeft() <= x && itemView.getRight() > x && itemView.getTop() <= y && itemView.getBottom() > y) {
+                return viewHolder;
+            }
+        }
 
-                translationX = Math.max(dX, buffer.size() * -buttonWidth);
+        return null;
+    }
 
-                // Draw defined SwipeButtons on the right sind of the specific item
+    /**
+     * Installs @{@link SwipeAccessibilityDelegate} on the list, wrapping a delegate the host
+     * installed before. Rows bound before are given the new item delegate right away, RecyclerView
+     * only installs it on rows it binds.
+     */
+    private void installAccessibilityDelegate() {
+        RecyclerViewAccessibilityDelegate previousDelegate = recyclerView.getCompatAccessibilityDelegate();
 
-                drawSwipeButtonsRight(canvas, itemView, buffer, position, translationX);
+        if (previousDelegate != null && previousDelegate.getClass() == RecyclerViewAccessibilityDelegate.class) {
 
-            } else if (dX > 0) {
+            // Default delegate of RecyclerView, the swiper handles the list the same way
 
-                // Swipe from left to right ( --> )
+            previousDelegate = null;
+        }
 
-                List<SwipeButton> buffer = new ArrayList<>();
+        SwipeAccessibilityDelegate delegate = new SwipeAccessibilityDelegate(recyclerView, previousDelegate);
+        recyclerView.setAccessibilityDelegateCompat(delegate);
 
-                if (!swipeButtonsBufferLeft.containsKey(position)) {
-                    initSwipeButtonLeft(viewHolder, buffer);
-                    swipeButtonsBufferLeft.put(position, buffer);
-                } else {
-                    buffer = swipeButtonsBufferLeft.get(position);
-                }
+        for (int i = 0, count = recyclerView.getChildCount(); i < count; i++) {
+            ViewCompat.setAccessibilityDelegate(recyclerView.getChildAt(i), delegate.getItemDelegate());
+        }
+    }
 
-                // Make sure to swipe just as wide as the width of all pre-defined SwipeButtons together
-                // Swipe to the right, means coordinates are positive values!
+    /**
+     * Returns the buttons of an item without building or buffering them, for building its
+     * accessibility node.
+     *
+     * @param viewHolder Holder of the item
+     * @param position   Adapter position of the item
+     * @param rightSide  Whether the buttons of the right side are meant
+     * @return Buffered buttons or the buttons registered for its view type, otherwise an empty list
+     */
+    private SwipeButtonRow peekSwipeButtons(RecyclerView.ViewHolder viewHolder, int position, boolean rightSide) {
+        SwipeButtonRow buffer = getSwipeButtonsBuffer(rightSide).peek(getBufferKey(viewHolder, position));
 
-                translationX = Math.min(dX, buffer.size() * buttonWidth);
+        if (buffer == null) {
+            buffer = resolveSwipeButtons(rightSide ? swipeButtonTemplatesRight : swipeButtonTemplatesLeft,
+                    viewHolder.getItemViewType(), position);
+        }
 
-                // Draw defined SwipeButtons on the left sind of the specific item
+        return buffer != null ? buffer : SwipeButtonRow.EMPTY;
+    }
 
-                drawSwipeButtonsLeft(canvas, itemView, buffer, position, translationX);
-            }
+    /**
+     * Returns the buffered buttons of an open item.
+     *
+     * @param viewHolder Holder of the open item
+     * @param position   Adapter position of the open item
+     * @param rightSide  Whether the buttons of the right side are revealed
+     * @return Buttons of the item, or an empty list if they are not buffered anymore
+     */
+    private SwipeButtonRow findSwipeButtons(RecyclerView.ViewHolder viewHolder, int position, boolean rightSide) {
+        SwipeButtonRow buffer = getSwipeButtonsBuffer(rightSide).get(getBufferKey(viewHolder, position));
+        return buffer != null ? buffer : SwipeButtonRow.EMPTY;
+    }
+
+    /**
+     * Returns the buffered buttons of an item, they are built if they are not buffered yet.
+     *
+     * @param viewHolder Holder of the item
+     * @param position   Adapter position of the item
+     * @param rightSide  Whether the buttons of the right side are meant
+     * @return Buttons of the item
+     */
+    private SwipeButtonRow obtainSwipeButtons(RecyclerView.ViewHolder viewHolder, int position, boolean rightSide) {
+        SwipeButtonBuffer<SwipeButtonRow> buffers = getSwipeButtonsBuffer(rightSide);
+        long key = getBufferKey(viewHolder, position);
+        SwipeButtonRow buffer = buffers.get(key);
+
+        if (buffer == null) {
+            buffer = buildSwipeButtons(viewHolder, position, rightSide);
+            buffers.put(key, buffer);
         }
 
-        super.onChildDraw(canvas, recyclerView, viewHolder, translationX, dY, actionState, isCurrentlyActive);
+        return buffer;
+    }
+
+    /**
+     * @param rightSide Whether the buttons of the right side are meant
+     * @return Buffer of the built buttons of the given side
+     */
+    private SwipeButtonBuffer<SwipeButtonRow> getSwipeButtonsBuffer(boolean rightSide) {
+        return rightSide ? swipeButtonsBufferRight : swipeButtonsBufferLeft;
     }
 
     /**
-     * Fires changed event on currently swiped item, which triggers a re-drawn and resets swiped
-     * view.
+     * Resolves which side of buttons a swipe reveals for the given layout direction. Open items
+     * were revealed for the previous direction, so they have to be closed if the sides were
+     * swapped.
+     *
+     * @param layoutDirection Resolved layout direction of the list
+     * @return Whether the sides were swapped
      */
-    private synchronized void recoverSwipedItem() {
+    private boolean resolveSides(int layoutDirection) {
+        this.layoutDirection = layoutDirection;
 
-        // fire changed event on swiped item, so this is going to re-drawn and resets swipe view to non-swiped
+        boolean mirrored = !vertical && layoutDirection == View.LAYOUT_DIRECTION_RTL;
+        return sides.resolve(mirrored);
+    }
 
-        while (!recoverQueue.isEmpty()) {
-            int position = recoverQueue.poll();
-            if (position > -1) {
-                recyclerView.getAdapter().notifyItemChanged(position);
-            }
-        }
+    private void updateSwipedItemBounds(View itemView) {
+        swipedItemLeft = itemView.getLeft();
+        swipedItemTop = itemView.getTop();
+        swipedItemRight = itemView.getRight();
+        swipedItemBottom = itemView.getBottom();
     }
 
     /**
-     * Draw the given @swipeButtons to the right side of the @itemView.
+     * Lays out the hit regions of the @{@link SwipeButton} of an open item as they are when fully
+     * revealed. Items swiped UP and DOWN are laid out with swapped axes, so taps have to be
+     * resolved with swapped coordinates as well.
      *
-     * @param canvas       Area where the @swipeButtons gets drawn to
-     * @param itemView     Whole view of the item
-     * @param swipeButtons List of @{@link SwipeButton} which should be drawn to the given @itemView
-     * @param position     A @{@link RecyclerView} position reference
-     * @param dX           The amount of horizontal displacement caused by user's action
+     * @param itemView     Whole view of the open item
+     * @param position     Adapter position of the open item
+     * @param rightSide    Whether the buttons of the right side are revealed
+     * @param swipeButtons Buttons of the open item
      */
-    private void drawSwipeButtonsRight(Canvas canvas, View itemView, List<SwipeButton> swipeButtons, int position, float dX) {
-        float right = itemView.getRight();
-        float buttonWidth = (-1) * dX / swipeButtons.size();
+    private void layoutHitIndex(View itemView, int position, boolean rightSide, SwipeButtonRow swipeButtons) {
+
+        // Buttons revealed by a negative translation are laid out from the end edge of the item
 
-        for (SwipeButton swipeButton : swipeButtons) {
-            float left = right - buttonWidth;
-            swipeButton.onDraw(canvas, new RectF(left, itemView.getTop(), right, itemView.getBottom()), position);
-            right = left;
+        boolean endEdge = sides.signOf(rightSide) < 0;
+
+        if (vertical) {
+            hitIndex.layout(position, itemView.getTop(), itemView.getLeft(), itemView.getBottom(), itemView.getRight(),
+                    endEdge, swipeButtons.size(), swipeButtons.layout(buttonWidth));
+        } else {
+            hitIndex.layout(position, itemView.getLeft(), itemView.getTop(), itemView.getRight(), itemView.getBottom(),
+                    endEdge, swipeButtons.size(), swipeButtons.layout(buttonWidth));
         }
     }
 
     /**
-     * Draw the given @swipeButtons to the left side of the @itemView.
+     * Draw the given @swipeButtons to the side of the @itemView revealed by @translation. Buttons
+     * revealed by a swipe to the left, or up, are drawn from the right, or bottom, edge of the item
+     * towards its start.
      *
      * @param canvas       Area where the @swipeButtons gets drawn to
      * @param itemView     Whole view of the item
      * @param swipeButtons List of @{@link SwipeButton} which should be drawn to the given @itemView
      * @param position     A @{@link RecyclerView} position reference
-     * @param dX           The amount of horizontal displacement caused by user's action
+     * @param translation  Translation of the item along the swipe axis
      */
-    private void drawSwipeButtonsLeft(Canvas canvas, View itemView, List<SwipeButton> swipeButtons, int position, float dX) {
-        float left = itemView.getLeft();
-        float buttonWidth = dX / swipeButtons.size();
+    private void drawSwipeButtons(Canvas canvas, View itemView, SwipeButtonRow swipeButtons, int position, float translation) {
+        int size = swipeButtons.size();
+
+        if (size == 0) {
+            return;
+        }
 
-        for (SwipeButton swipeButton : swipeButtons) {
-            float right = left + buttonWidth;
-            swipeButton.onDraw(canvas, new RectF(left, itemView.getTop(), right, itemView.getBottom()), position);
-            left = right;
+        if (buttonRects.length < size * 4) {
+            buttonRects = new float[size * 4];
+        }
+
+        // Widths were resolved once per row and the geometry once per direction and bounds, the
+        // frame only scales them by the revealed fraction
+
+        float[] offsets = swipeButtons.layout(buttonWidth);
+        buttonGeometry.layout(SwipeDirection.of(vertical, translation), itemView.getLeft(), itemView.getTop(),
+                itemView.getRight(), itemView.getBottom(), offsets, size);
+        buttonGeometry.frame(translation, buttonRects);
+
+        // Indexed loop and shared rect, so no iterator or rect is allocated per frame
+
+        for (int i = 0; i < size; i++) {
+            int index = i * 4;
+            buttonRect.set(buttonRects[index], buttonRects[index + 1], buttonRects[index + 2], buttonRects[index + 3]);
+            int extent = Math.round(offsets[i + 1] - offsets[i]);
+
+            if (vertical) {
+                swipeButtons.get(i).onDraw(canvas, buttonRect, position, faceCache, (int) buttonRect.width(), extent);
+            } else {
+                swipeButtons.get(i).onDraw(canvas, buttonRect, position, faceCache, extent, (int) buttonRect.height());
+            }
         }
     }
 
     /**
-     * Declaration of Items that are drawn on the right side when swiping
+     * Declaration of Items that are drawn on the right side when swiping, or on the left side in
+     * right-to-left layouts. Buttons with a type can be taken from {@link #getSwipeButtonPool()}
+     * instead of being created. Only called for view types without buttons registered by
+     * {@link #registerSwipeButtonRight(int, SwipeButton, SwipeButtonPredicate)}.
      *
      * @param viewHolder   Related Holder of @{@link RecyclerView}
      * @param swipeButtons Items which gets drawn on the right side once the user swipes an item
@@ -361,7 +2393,10 @@ public abstract class RecyclerViewSwiper extends ItemTouchHelper.SimpleCallback
     public abstract void initSwipeButtonRight(RecyclerView.ViewHolder viewHolder, List<SwipeButton> swipeButtons);
 
     /**
-     * Declaration of Items that are drawn on the left side when swiping
+     * Declaration of Items that are drawn on the left side when swiping, or on the right side in
+     * right-to-left layouts. Buttons with a type can be taken from {@link #getSwipeButtonPool()}
+     * instead of being created. Only called for view types without buttons registered by
+     * {@link #registerSwipeButtonLeft(int, SwipeButton, SwipeButtonPredicate)}.
      *
      * @param viewHolder   Related Holder of @{@link RecyclerView}
      * @param swipeButtons Items which gets drawn on the left side once the user swipes an item
@@ -1,12 +1,15 @@
 package ch.huber.recyclerviewswiper;
 
 import android.content.Context;
-import android.content.res.Resources;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Rect;
 import android.graphics.RectF;
+import android.text.TextPaint;
+
+import androidx.annotation.DrawableRes;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
 
 /**
  * Represents a single Swipe-Item. This can be added to any direction (LEFT or RIGHT) of
@@ -14,8 +17,46 @@ import android.graphics.RectF;
  */
 public class SwipeButton {
 
+    /**
+     * Type of buttons which are never pooled by @{@link SwipeButtonPool}.
+     */
+    public static final int INVALID_TYPE = -1;
+
+    /**
+     * Width of a button sized to fit its icon and text, see {@link #setWidth(int)}.
+     */
+    public static final int WIDTH_WRAP_CONTENT = -2;
+
+    /**
+     * Width of a button sharing the default button width by its weight, see
+     * {@link #setWeight(float)}.
+     */
+    private static final int WIDTH_WEIGHTED = -1;
+
+    /**
+     * Size of the icon box in dp, icons are scaled to fit into it.
+     */
+    private static final int ICON_SIZE_DP = 24;
+
+    /**
+     * Space between icon and text in dp.
+     */
+    private static final int ICON_PADDING_DP = 4;
+
+    /**
+     * Horizontal space kept free on both sides of the text in dp.
+     */
+    private static final int TEXT_PADDING_DP = 4;
+
     private Context context;
 
+    private int type = INVALID_TYPE;
+
+    /**
+     * Whether the button is registered as template and shared by multiple rows.
+     */
+    private boolean shared;
+
     private String text;
     private int color;
     private int position;
@@ -23,6 +64,44 @@ public class SwipeButton {
     private RectF clickRegion;
     private SwipeButtonClickListener clickListener;
 
+    /**
+     * Paints are created once per button and reused on every frame, so drawing a
+     * @{@link SwipeButton} does not allocate.
+     */
+    private Paint backgroundPaint;
+    private TextPaint textPaint;
+    private float textPadding;
+
+    /**
+     * Layout of the text for the last drawn width bucket, shared through
+     * @{@link SwipeButtonTextLayoutCache}. Frames within the same bucket draw it without any
+     * lookup or measuring.
+     */
+    private SwipeButtonTextLayoutCache.Entry textLayout;
+
+    private SwipeButtonFaceCache.Face face;
+
+    /**
+     * Icon shared through @{@link SwipeButtonIconCache}, so buttons showing the same icon do not
+     * hold a decoded copy each.
+     */
+    private int iconRes;
+    private Bitmap icon;
+    private float iconPadding;
+
+    /**
+     * Fixed width in pixels, {@link #WIDTH_WRAP_CONTENT} or {@link #WIDTH_WEIGHTED}.
+     */
+    private int width = WIDTH_WEIGHTED;
+    private float weight = 1f;
+
+    /**
+     * Accessibility action of the button, kept until it is requested with another id, so
+     * accessibility events do not allocate.
+     */
+    private CharSequence contentDescription;
+    private AccessibilityNodeInfoCompat.AccessibilityActionCompat accessibilityAction;
+
     /**
      * Instantiates a single instance of @{@link SwipeButton}
      *
@@ -32,10 +111,173 @@ public class SwipeButton {
      * @param clickListener Detects a @{@link SwipeButton} click
      */
     public SwipeButton(Context context, String text, int color, SwipeButtonClickListener clickListener) {
+        this(context, text, color, INVALID_TYPE, clickListener);
+    }
+
+    /**
+     * Instantiates a single instance of @{@link SwipeButton}, which can be pooled and reused by
+     * @{@link SwipeButtonPool}.
+     *
+     * @param context       Defines environment context
+     * @param text          String text of @{@link SwipeButton}
+     * @param color         Ressource identifier of background color
+     * @param type          Type of the button, buttons of the same type must be interchangeable
+     * @param clickListener Detects a @{@link SwipeButton} click
+     */
+    public SwipeButton(Context context, String text, int color, int type, SwipeButtonClickListener clickListener) {
         this.context = context;
+        this.type = type;
         this.text = text;
         this.color = color;
         this.clickListener = clickListener;
+
+        this.clickRegion = new RectF();
+
+        this.backgroundPaint = new Paint();
+        this.backgroundPaint.setColor(color);
+
+        float density = context.getResources().getDisplayMetrics().density;
+
+        this.textPaint = new TextPaint();
+        this.textPaint.setColor(Color.WHITE);
+        this.textPaint.setTextSize(12 * density);
+        this.textPaint.setTextAlign(Paint.Align.LEFT);
+        this.textPadding = TEXT_PADDING_DP * density;
+    }
+
+    /**
+     * Shows the given icon above the text, or centered if the text is empty. The icon is decoded
+     * once per process, downsampled to the icon size of the button, and shared with all buttons
+     * showing it. Vector drawables are supported as well.
+     *
+     * @param iconRes Resource identifier of a bitmap or vector drawable, or 0 to remove the icon
+     */
+    public void setIcon(@DrawableRes int iconRes) {
+        this.iconRes = iconRes;
+        this.face = null;
+
+        if (iconRes == 0) {
+            this.icon = null;
+            return;
+        }
+
+        float density = context.getResources().getDisplayMetrics().density;
+        int iconSize = Math.round(ICON_SIZE_DP * density);
+
+        this.icon = SwipeButtonIconCache.getInstance(context).get(context, iconRes, iconSize, iconSize);
+        this.iconPadding = ICON_PADDING_DP * density;
+    }
+
+    /**
+     * Sets the label the button is announced with by accessibility services. Default value is the
+     * text of the button, set a description if the button only shows an icon.
+     *
+     * @param contentDescription Label of the button, or null to announce its text
+     */
+    public void setContentDescription(CharSequence contentDescription) {
+        this.contentDescription = contentDescription;
+        this.accessibilityAction = null;
+    }
+
+    /**
+     * Returns the accessibility action which performs a click on this button. The action is
+     * created once and reused as long as it is requested with the same id.
+     *
+     * @param actionId Resource identifier of the action, unique within the row
+     * @return Accessibility action labeled with the content description or text of the button
+     */
+    AccessibilityNodeInfoCompat.AccessibilityActionCompat getAccessibilityAction(int actionId) {
+
+        if (accessibilityAction == null || accessibilityAction.getId() != actionId) {
+            CharSequence label = contentDescription != null ? contentDescription : text;
+            accessibilityAction = new AccessibilityNodeInfoCompat.AccessibilityActionCompat(actionId, label);
+        }
+
+        return accessibilityAction;
+    }
+
+    /**
+     * Gives the button a width of its own instead of sharing the default button width. Must be set
+     * before the button is first swiped in.
+     *
+     * @param width Width of the fully revealed button in pixels, or {@link #WIDTH_WRAP_CONTENT} to
+     *              fit its icon and text on a single line
+     */
+    public void setWidth(int width) {
+        if (width <= 0 && width != WIDTH_WRAP_CONTENT) {
+            throw new IllegalArgumentException("width must be positive or WIDTH_WRAP_CONTENT");
+        }
+
+        this.width = width;
+    }
+
+    /**
+     * Lets the button share the default button width by weight. Every weighted button of a row
+     * contributes one default button width, which the weighted buttons split in proportion to their
+     * weights. Must be set before the button is first swiped in. Default value is 1.
+     *
+     * @param weight Weight of the button, greater than 0
+     */
+    public void setWeight(float weight) {
+        if (weight <= 0f) {
+            throw new IllegalArgumentException("weight <= 0");
+        }
+
+        this.width = WIDTH_WEIGHTED;
+        this.weight = weight;
+    }
+
+    /**
+     * @return Width of the fully revealed button in pixels, or a negative value if the button is
+     * weighted
+     */
+    float resolveWidth() {
+
+        if (width != WIDTH_WRAP_CONTENT) {
+            return width;
+        }
+
+        // Round the text up to a whole layout bucket, so it is not wrapped once drawn
+
+        float contentWidth = text.isEmpty() ? 0 : textPaint.measureText(text);
+        int bucket = SwipeButtonTextLayoutCache.WIDTH_BUCKET_PX;
+        contentWidth = (float) Math.ceil(contentWidth / bucket) * bucket;
+
+        if (icon != null) {
+            contentWidth = Math.max(contentWidth, icon.getWidth());
+        }
+
+        return contentWidth + 2 * textPadding;
+    }
+
+    /**
+     * @return Weight of the button, only used if it is weighted
+     */
+    float getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return Type of the button, or {@link #INVALID_TYPE} if it is not poolable
+     */
+    public int getType() {
+        return type;
+    }
+
+    boolean isShared() {
+        return shared;
+    }
+
+    void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Clears the state of the row the button was last bound to, before it gets pooled.
+     */
+    void reset() {
+        clickRegion.setEmpty();
+        position = -1;
     }
 
     /**
@@ -47,7 +289,7 @@ public class SwipeButton {
      */
     public boolean onClick(float x, float y) {
 
-        if (clickRegion != null && clickRegion.contains(x, y)) {
+        if (!clickRegion.isEmpty() && clickRegion.contains(x, y)) {
 
             clickListener.onClick(position);
 
@@ -56,49 +298,141 @@ public class SwipeButton {
         return false;
     }
 
+    /**
+     * Fires the click event of this @{@link SwipeButton}, once a tap was resolved to it.
+     *
+     * @param position Current item position within the @{@link androidx.recyclerview.widget.RecyclerView}
+     */
+    void performClick(int position) {
+        clickListener.onClick(position);
+    }
+
     /**
      *
      * @param canvas   Surface on which objects are drawn
-     * @param rect     Item area of @{@link SwipeButton}
+     * @param rect     Item area of @{@link SwipeButton}. The values are copied, so the caller may
+     *                 reuse the instance for the next button.
      * @param position Current item position within the @{@link androidx.recyclerview.widget.RecyclerView}
      */
     public void onDraw(Canvas canvas, RectF rect, int position) {
 
-        Paint paint = new Paint();
+        drawContent(canvas, rect);
 
-        // Background
-        paint.setColor(color);
-        canvas.drawRect(rect, paint);
+        clickRegion.set(rect);
+        this.position = position;
+
+    }
 
-        // Draw Text
-        paint.setColor(Color.WHITE);
-        paint.setTextSize((12 * Resources.getSystem().getDisplayMetrics().density));
+    /**
+     * Draws the @{@link SwipeButton} from the given @faceCache. The face is rendered once in its
+     * full size and clipped to the visible part of the button on every frame.
+     *
+     * @param canvas     Surface on which objects are drawn
+     * @param rect       Item area of @{@link SwipeButton}
+     * @param position   Current item position within the @{@link androidx.recyclerview.widget.RecyclerView}
+     * @param faceCache  Cache of rendered faces, or null to draw without cache
+     * @param faceWidth  Width of the fully revealed @{@link SwipeButton}
+     * @param faceHeight Height of the fully revealed @{@link SwipeButton}
+     */
+    void onDraw(Canvas canvas, RectF rect, int position, SwipeButtonFaceCache faceCache, int faceWidth, int faceHeight) {
+
+        if (faceCache == null) {
+            onDraw(canvas, rect, position);
+            return;
+        }
+
+        prefetchFace(faceCache, faceWidth, faceHeight);
+
+        // Align face centered in the visible area of @SwipeButton, buttons of items swiped UP and
+        // DOWN are revealed along their height
+
+        int saveCount = canvas.save();
+        canvas.clipRect(rect);
+        canvas.drawBitmap(face.bitmap, rect.centerX() - faceWidth / 2f, rect.centerY() - faceHeight / 2f, null);
+        canvas.restoreToCount(saveCount);
+
+        clickRegion.set(rect);
+        this.position = position;
+    }
+
+    /**
+     * Makes sure the face of this @{@link SwipeButton} in the given size is rendered, so drawing
+     * it only blits the cached bitmap.
+     *
+     * @param faceCache  Cache of rendered faces
+     * @param faceWidth  Width of the fully revealed @{@link SwipeButton}
+     * @param faceHeight Height of the fully revealed @{@link SwipeButton}
+     */
+    void prefetchFace(SwipeButtonFaceCache faceCache, int faceWidth, int faceHeight) {
+        if (face == null || !face.matches(faceWidth, faceHeight)) {
+            face = faceCache.obtain(this, faceWidth, faceHeight);
+        }
+    }
+
+    /**
+     * Renders the face of this @{@link SwipeButton} into a @{@link SwipeButtonFaceCache} bitmap.
+     *
+     * @param canvas Surface of the cached bitmap
+     * @param width  Width of the face
+     * @param height Height of the face
+     */
+    void drawFace(Canvas canvas, int width, int height) {
+        drawContent(canvas, new RectF(0, 0, width, height));
+    }
+
+    /**
+     * @return Key describing everything the rendered face depends on, except its size
+     */
+    String getFaceKey() {
+        return text + '|' + color + '|' + iconRes;
+    }
+
+    private void drawContent(Canvas canvas, RectF rect) {
+
+        // Background
+        canvas.drawRect(rect, backgroundPaint);
 
-        Rect r = new Rect();
         float cHeight = rect.height();
         float cWidth = rect.width();
-        paint.setTextAlign(Paint.Align.LEFT);
-        paint.getTextBounds(text, 0, text.length(), r);
-        float x = cWidth / 2f - r.width() / 2f - r.left;
-        float y = cHeight / 2f + r.height() / 2f - r.bottom;
-        canvas.drawText(text, rect.left + x, rect.top + y, paint);
 
-        // Draw Icon
-        /*
+        // Text is laid out again only once the available width changes its bucket
+
+        int textWidth = (int) (cWidth - 2 * textPadding);
+
+        if (textLayout == null || textLayout.width != SwipeButtonTextLayoutCache.bucket(textWidth)) {
+            textLayout = SwipeButtonTextLayoutCache.obtain(text, textPaint, textWidth);
+        }
+
+        // Icon and text are centered as one block, icon on top
+
+        float iconHeight = 0;
+
         if (icon != null) {
+            iconHeight = icon.getHeight() + (textLayout == null ? 0 : iconPadding);
+        }
 
-            float x = rect.width() / 2f - (icon.getWidth() / 2f);
-            float y = rect.height() / 2f - (icon.getHeight() / 2f);
+        float textHeight = textLayout == null ? 0 : textLayout.layout.getHeight();
+        float top = cHeight / 2f - (iconHeight + textHeight) / 2f;
+
+        // Draw Icon
+        if (icon != null) {
+            float x = cWidth / 2f - (icon.getWidth() / 2f);
 
             // Align icons centered in @SwipeButton
 
-            canvas.drawBitmap(icon, rect.left + x, rect.top + y, null);
+            canvas.drawBitmap(icon, rect.left + x, rect.top + top, null);
         }
-         */
 
-        clickRegion = rect;
-        this.position = position;
+        // Draw Text, ellipsized if it does not fit into two lines
+        if (textLayout != null) {
+            float x = cWidth / 2f - textLayout.width / 2f;
+            float y = top + iconHeight;
 
+            int saveCount = canvas.save();
+            canvas.translate(rect.left + x, rect.top + y);
+            textLayout.layout.draw(canvas);
+            canvas.restoreToCount(saveCount);
+        }
     }
 
 }
@@ -0,0 +1,238 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Queues the clicks of @{@link SwipeButton} instead of applying them right away. Clicks on items
+ * swiped in quick succession are collected until the debounce window passes without another
+ * click, or until {@link #commit()} is called, and then applied by their
+ * @{@link SwipeButtonBatchListener} at once. All resulting changes are dispatched to the adapter
+ * as range notifications, so a single layout pass covers the whole batch.
+ * <p>
+ * The data set must not be changed outside of the batch while clicks are queued, otherwise the
+ * queued positions point to other items.
+ */
+public class SwipeButtonBatch {
+
+    /**
+     * Default time in milliseconds a batch waits for another click before it is flushed. Default
+     * value is {@value}.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    private final ListUpdateCallback callback;
+
+    private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+
+    private Handler handler;
+
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            commit();
+        }
+    };
+
+    /**
+     * Queued actions, in the order of their first click.
+     */
+    private final List<QueuedAction> queuedActions = new ArrayList<>();
+
+    private final SwipeChangeSet changes = new SwipeChangeSet();
+
+    private int[] positions = new int[16];
+
+    /**
+     * Positions one action was clicked on since the last flush.
+     */
+    private static final class QueuedAction {
+
+        final SwipeButtonBatchListener listener;
+        final BitSet positions = new BitSet();
+
+        QueuedAction(SwipeButtonBatchListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeButtonBatch}.
+     *
+     * @param adapter Adapter receiving the changes of every flushed batch
+     */
+    public SwipeButtonBatch(@NonNull RecyclerView.Adapter<?> adapter) {
+        this(new AdapterListUpdateCallback(adapter));
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeButtonBatch}.
+     *
+     * @param callback Receives the changes of every flushed batch
+     */
+    public SwipeButtonBatch(@NonNull ListUpdateCallback callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * Sets how long the batch waits for another click before it is flushed.
+     *
+     * @param debounceMillis Time in milliseconds, or 0 to only flush on {@link #commit()}
+     */
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Creates a click listener for @{@link SwipeButton}, which queues the clicked position
+     * instead of handling it. Buttons sharing the same action should share the returned listener.
+     *
+     * @param listener Action applied to all queued positions once the batch is flushed
+     * @return Click listener queueing into this batch
+     */
+    public SwipeButtonClickListener createClickListener(@NonNull final SwipeButtonBatchListener listener) {
+        return new SwipeButtonClickListener() {
+            @Override
+            public void onClick(int position) {
+                queue(listener, position);
+            }
+        };
+    }
+
+    /**
+     * Queues a click of the given action. Clicking the same item twice within one batch only
+     * queues it once.
+     *
+     * @param listener Action of the clicked @{@link SwipeButton}
+     * @param position Current item position in @{@link RecyclerView}
+     */
+    public void queue(@NonNull SwipeButtonBatchListener listener, int position) {
+
+        if (position < 0) {
+            return;
+        }
+
+        QueuedAction queuedAction = findQueuedAction(listener);
+
+        if (queuedAction == null) {
+            queuedAction = new QueuedAction(listener);
+            queuedActions.add(queuedAction);
+        }
+
+        queuedAction.positions.set(position);
+
+        if (debounceMillis > 0) {
+
+            // Restart the debounce window with every click
+
+            if (handler == null) {
+                handler = new Handler(Looper.getMainLooper());
+            }
+
+            handler.removeCallbacks(flushRunnable);
+            handler.postDelayed(flushRunnable, debounceMillis);
+        }
+    }
+
+    /**
+     * @return Number of queued clicks of all actions
+     */
+    public int getPendingCount() {
+        int count = 0;
+
+        for (int i = 0, size = queuedActions.size(); i < size; i++) {
+            count += queuedActions.get(i).positions.cardinality();
+        }
+
+        return count;
+    }
+
+    /**
+     * Applies all queued clicks right away and dispatches the resulting changes.
+     * Actions are applied in the order of their first click. Positions of later actions are
+     * adjusted by the changes of the earlier ones, positions of removed items are dropped.
+     */
+    public void commit() {
+
+        if (handler != null) {
+            handler.removeCallbacks(flushRunnable);
+        }
+
+        if (queuedActions.isEmpty()) {
+            return;
+        }
+
+        changes.clear();
+
+        for (int i = 0, size = queuedActions.size(); i < size; i++) {
+            QueuedAction queuedAction = queuedActions.get(i);
+            int count = collectPositions(queuedAction.positions);
+
+            if (count > 0) {
+                queuedAction.listener.onClick(positions, count, changes);
+            }
+        }
+
+        queuedActions.clear();
+
+        changes.dispatchUpdatesTo(callback);
+        changes.clear();
+    }
+
+    /**
+     * Drops all queued clicks without applying them.
+     */
+    public void cancel() {
+
+        if (handler != null) {
+            handler.removeCallbacks(flushRunnable);
+        }
+
+        queuedActions.clear();
+    }
+
+    private QueuedAction findQueuedAction(SwipeButtonBatchListener listener) {
+        for (int i = 0, size = queuedActions.size(); i < size; i++) {
+            QueuedAction queuedAction = queuedActions.get(i);
+
+            if (queuedAction.listener == listener) {
+                return queuedAction;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Copies the given queued positions into {@link #positions} in descending order, mapped
+     * through the changes recorded so far.
+     *
+     * @return Number of positions of items which still exist
+     */
+    private int collectPositions(BitSet queued) {
+        int count = 0;
+
+        if (positions.length < queued.cardinality()) {
+            positions = new int[queued.cardinality()];
+        }
+
+        for (int position = queued.length() - 1; position >= 0; position = queued.previousSetBit(position - 1)) {
+            int transformed = changes.transform(position);
+
+            if (transformed >= 0) {
+                positions[count++] = transformed;
+            }
+        }
+
+        return count;
+    }
+}
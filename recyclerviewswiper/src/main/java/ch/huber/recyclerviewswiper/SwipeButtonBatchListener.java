@@ -0,0 +1,21 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Interface for applying the action of a @{@link SwipeButton} to all items it was clicked on
+ * within one @{@link SwipeButtonBatch}
+ */
+public interface SwipeButtonBatchListener {
+
+    /**
+     * Fires once the batch is flushed, with all positions the @{@link SwipeButton} was clicked on
+     *
+     * @param positions Current item positions in @{@link androidx.recyclerview.widget.RecyclerView},
+     *                  sorted descending, so removing an item does not shift the positions of the
+     *                  remaining ones. The array is reused, only the first @count values are valid.
+     * @param count     Number of positions
+     * @param changes   Records every change applied to the data set, the changes of all actions of
+     *                  the batch are dispatched to the adapter together
+     */
+    void onClick(int[] positions, int count, SwipeChangeSet changes);
+
+}
@@ -0,0 +1,290 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Size-bounded buffer of the @{@link SwipeButton} built for the rows of a
+ * @{@link androidx.recyclerview.widget.RecyclerView}. Rows are keyed by a primitive long (the
+ * stable item id, or the adapter position if stable ids are off), kept sorted like a
+ * {@code LongSparseArray}, and the least recently used row is evicted once the buffer is full.
+ *
+ * @param <E> Type of the buffered value
+ */
+class SwipeButtonBuffer<E> {
+
+    /**
+     * Default number of buffered rows. Default value is {@value}.
+     */
+    static final int DEFAULT_MAX_SIZE = 32;
+
+    private long[] keys;
+    private Object[] values;
+
+    /**
+     * Access stamp per entry, the entry with the lowest stamp is the least recently used.
+     */
+    private long[] stamps;
+
+    private int size;
+    private int maxSize;
+    private long clock;
+
+    private EvictionListener<E> evictionListener;
+
+    /**
+     * Receives the rows the buffer drops by itself, evicted as least recently used or
+     * cleared. Rows taken out by {@link #remove(long)} or
+     * {@link #removeRange(long, long, List)} are returned to the caller instead.
+     *
+     * @param <E> Type of the buffered value
+     */
+    interface EvictionListener<E> {
+
+        /**
+         * Called after the row was removed, must not modify the buffer.
+         *
+         * @param key   Key of the dropped row
+         * @param value Value of the dropped row
+         */
+        void onEvicted(long key, E value);
+    }
+
+    SwipeButtonBuffer() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    SwipeButtonBuffer(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+
+        this.maxSize = maxSize;
+        this.keys = new long[maxSize];
+        this.values = new Object[maxSize];
+        this.stamps = new long[maxSize];
+    }
+
+    /**
+     * @param evictionListener Receives the evicted and cleared rows, or null
+     */
+    void setEvictionListener(EvictionListener<E> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns the value of the given row and marks it as recently used.
+     *
+     * @param key Key of the row
+     * @return Buffered value, or null if the row is not buffered
+     */
+    @SuppressWarnings("unchecked")
+    E get(long key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        stamps[index] = ++clock;
+        return (E) values[index];
+    }
+
+    /**
+     * Returns the value of the given row without marking it as recently used.
+     *
+     * @param key Key of the row
+     * @return Buffered value, or null if the row is not buffered
+     */
+    @SuppressWarnings("unchecked")
+    E peek(long key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        return index >= 0 ? (E) values[index] : null;
+    }
+
+    /**
+     * Buffers the value of the given row. The least recently used row is evicted if the buffer is
+     * full.
+     *
+     * @param key   Key of the row
+     * @param value Value to buffer
+     */
+    void put(long key, E value) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+
+        if (index >= 0) {
+            values[index] = value;
+            stamps[index] = ++clock;
+            return;
+        }
+
+        long evictedKey = 0L;
+        Object evicted = null;
+
+        if (size == maxSize) {
+            int eldest = indexOfLeastRecentlyUsed();
+            evictedKey = keys[eldest];
+            evicted = values[eldest];
+            removeAt(eldest);
+            index = Arrays.binarySearch(keys, 0, size, key);
+        }
+
+        index = -index - 1;
+
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        System.arraycopy(stamps, index, stamps, index + 1, size - index);
+
+        keys[index] = key;
+        values[index] = value;
+        stamps[index] = ++clock;
+        size++;
+
+        if (evicted != null) {
+            dispatchEvicted(evictedKey, evicted);
+        }
+    }
+
+    /**
+     * Removes the given row from the buffer.
+     *
+     * @param key Key of the row
+     * @return Removed value, or null if the row was not buffered
+     */
+    @SuppressWarnings("unchecked")
+    E remove(long key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        E value = (E) values[index];
+        removeAt(index);
+        return value;
+    }
+
+    /**
+     * Removes all rows within the given key range.
+     *
+     * @param start   First key of the range
+     * @param end     Key after the last key of the range
+     * @param removed Receives the values of all removed rows
+     */
+    void removeRange(long start, long end, List<? super E> removed) {
+        int from = indexOfKeyOrNext(start);
+        int to = indexOfKeyOrNext(end);
+
+        for (int i = from; i < to; i++) {
+            @SuppressWarnings("unchecked")
+            E value = (E) values[i];
+            removed.add(value);
+        }
+
+        System.arraycopy(keys, to, keys, from, size - to);
+        System.arraycopy(values, to, values, from, size - to);
+        System.arraycopy(stamps, to, stamps, from, size - to);
+
+        Arrays.fill(values, size - (to - from), size, null);
+        size -= to - from;
+    }
+
+    /**
+     * Adds the given delta to all keys from @start on. Keys keep their order, so the delta must
+     * not move a key onto or past a key before @start.
+     *
+     * @param start First key to offset
+     * @param delta Value added to the keys
+     */
+    void offsetKeys(long start, long delta) {
+        for (int i = indexOfKeyOrNext(start); i < size; i++) {
+            keys[i] += delta;
+        }
+    }
+
+    /**
+     * Removes all rows from the buffer.
+     */
+    void clear() {
+        int count = size;
+        size = 0;
+
+        for (int i = 0; i < count; i++) {
+            Object value = values[i];
+            values[i] = null;
+            dispatchEvicted(keys[i], value);
+        }
+    }
+
+    /**
+     * @return Number of buffered rows
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Maximum number of buffered rows
+     */
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Changes the maximum number of buffered rows. Least recently used rows are evicted if the
+     * buffer shrinks below its current size.
+     *
+     * @param maxSize New maximum number of buffered rows
+     */
+    void resize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+
+        while (size > maxSize) {
+            int eldest = indexOfLeastRecentlyUsed();
+            long evictedKey = keys[eldest];
+            Object evicted = values[eldest];
+            removeAt(eldest);
+            dispatchEvicted(evictedKey, evicted);
+        }
+
+        this.keys = Arrays.copyOf(keys, maxSize);
+        this.values = Arrays.copyOf(values, maxSize);
+        this.stamps = Arrays.copyOf(stamps, maxSize);
+        this.maxSize = maxSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatchEvicted(long key, Object value) {
+        if (evictionListener != null && value != null) {
+            evictionListener.onEvicted(key, (E) value);
+        }
+    }
+
+    private int indexOfKeyOrNext(long key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int indexOfLeastRecentlyUsed() {
+        int eldest = 0;
+
+        for (int i = 1; i < size; i++) {
+            if (stamps[i] < stamps[eldest]) {
+                eldest = i;
+            }
+        }
+
+        return eldest;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        System.arraycopy(stamps, index + 1, stamps, index, size - index - 1);
+
+        size--;
+        values[size] = null;
+    }
+}
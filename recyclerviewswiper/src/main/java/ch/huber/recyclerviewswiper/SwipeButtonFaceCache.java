@@ -0,0 +1,180 @@
+package ch.huber.recyclerviewswiper;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Optional cache of pre-rendered @{@link SwipeButton} faces. Each face (label, color and size) is
+ * rasterized once into a bitmap, so swipe frames only blit and clip the cached face instead of
+ * drawing the background and laying out the text again.
+ * <p>
+ * Faces are evicted in least recently used order once the byte budget is exceeded and the whole
+ * cache is invalidated when the density or font scale of the configuration changes.
+ */
+public class SwipeButtonFaceCache implements ComponentCallbacks2 {
+
+    /**
+     * Default byte budget of all cached faces. Default value is {@value}.
+     */
+    public static final int DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+    private Context context;
+
+    private LruCache<String, Face> faces;
+
+    private int densityDpi;
+    private float fontScale;
+
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * A single rasterized @{@link SwipeButton} face. Buttons keep a reference to their face and
+     * only go back to the cache once it was evicted or the size changed.
+     */
+    static final class Face {
+
+        final Bitmap bitmap;
+        final int width;
+        final int height;
+
+        boolean evicted;
+
+        Face(Bitmap bitmap, int width, int height) {
+            this.bitmap = bitmap;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean matches(int width, int height) {
+            return !evicted && this.width == width && this.height == height;
+        }
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeButtonFaceCache} with a budget of
+     * {@link #DEFAULT_MAX_BYTES}.
+     *
+     * @param context Context environment variable
+     */
+    public SwipeButtonFaceCache(Context context) {
+        this(context, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeButtonFaceCache}.
+     *
+     * @param context  Context environment variable
+     * @param maxBytes Maximum amount of bytes all cached faces together may use
+     */
+    public SwipeButtonFaceCache(Context context, int maxBytes) {
+        this.context = context.getApplicationContext();
+
+        Configuration configuration = this.context.getResources().getConfiguration();
+        this.densityDpi = configuration.densityDpi;
+        this.fontScale = configuration.fontScale;
+
+        this.faces = new LruCache<String, Face>(maxBytes) {
+            @Override
+            protected int sizeOf(String key, Face face) {
+                return face.bitmap.getAllocationByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(boolean evicted, String key, Face oldFace, Face newFace) {
+
+                // Bitmaps are not recycled, they may still be referenced by a recorded frame
+
+                oldFace.evicted = true;
+            }
+        };
+
+        this.context.registerComponentCallbacks(this);
+    }
+
+    /**
+     * Returns the face of the given @{@link SwipeButton} in the given size. The face is rendered
+     * if it is not cached yet.
+     *
+     * @param swipeButton Button whose face is requested
+     * @param width       Width of the face in pixels
+     * @param height      Height of the face in pixels
+     * @return Cached face
+     */
+    Face obtain(SwipeButton swipeButton, int width, int height) {
+        String key = swipeButton.getFaceKey() + '|' + width + '|' + height;
+        Face face = faces.get(key);
+
+        if (face != null) {
+            hitCount++;
+        } else {
+            missCount++;
+
+            Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            swipeButton.drawFace(new Canvas(bitmap), width, height);
+            face = new Face(bitmap, width, height);
+            faces.put(key, face);
+        }
+
+        return face;
+    }
+
+    /**
+     * @return Number of requested faces which were already rendered
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return Number of requested faces which had to be rendered
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Removes all cached faces.
+     */
+    public void clear() {
+        faces.evictAll();
+    }
+
+    /**
+     * Removes all cached faces and stops listening to configuration changes.
+     */
+    public void release() {
+        context.unregisterComponentCallbacks(this);
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+
+        // Rasterized faces depend on density and font scale
+
+        if (newConfig.densityDpi != densityDpi || newConfig.fontScale != fontScale) {
+            densityDpi = newConfig.densityDpi;
+            fontScale = newConfig.fontScale;
+            clear();
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            clear();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Places the @{@link SwipeButton} of a row behind the item, independent of the axis it is swiped
+ * along. Everything that only depends on the swipe direction and the bounds of the row is
+ * resolved once by {@link #layout}, so a frame only scales the offsets of the buttons by how far
+ * the row is revealed.
+ */
+final class SwipeButtonGeometry {
+
+    private SwipeDirection direction;
+    private float left;
+    private float top;
+    private float right;
+    private float bottom;
+    private float[] offsets;
+    private float revealWidth;
+    private int count;
+
+    /**
+     * Edge on the swipe axis the buttons are revealed from, the outer edge of the first button.
+     */
+    private float start;
+
+    /**
+     * Bounds of the buttons across the swipe axis.
+     */
+    private float crossStart;
+    private float crossEnd;
+
+    /**
+     * Lays out the buttons of a row. Nothing is recomputed if the row is laid out the same way
+     * already.
+     *
+     * @param direction Direction the row is swiped in
+     * @param left      Left bound of the row
+     * @param top       Top bound of the row
+     * @param right     Right bound of the row
+     * @param bottom    Bottom bound of the row
+     * @param offsets   {@code count + 1} offsets of the fully revealed buttons, see
+     *                  {@link SwipeButtonLayout#layoutOffsets(float[], float[], int, float, float[])}
+     * @param count     Number of buttons
+     */
+    void layout(SwipeDirection direction, float left, float top, float right, float bottom, float[] offsets, int count) {
+
+        if (this.direction == direction && this.left == left && this.top == top && this.right == right && this.bottom == bottom
+                && this.offsets == offsets && this.count == count && this.revealWidth == offsets[count]) {
+
+            // Row did not change
+
+            return;
+        }
+
+        this.direction = direction;
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+        this.offsets = offsets;
+        this.count = count;
+        this.revealWidth = offsets[count];
+
+        // Buttons of the end side are revealed from the right or bottom edge towards the start
+
+        if (direction.vertical) {
+            start = direction.endSide ? bottom : top;
+            crossStart = left;
+            crossEnd = right;
+        } else {
+            start = direction.endSide ? right : left;
+            crossStart = top;
+            crossEnd = bottom;
+        }
+    }
+
+    /**
+     * Computes the bounds of the laid out buttons for the given translation of the row.
+     *
+     * @param translation Translation of the row along its swipe axis
+     * @param rects       Receives the left, top, right and bottom bound of every button, in the
+     *                    order of the buttons from the outer edge of the row
+     */
+    void frame(float translation, float[] rects) {
+        float scale = revealWidth > 0 ? translation / revealWidth : 0;
+
+        for (int i = 0; i < count; i++) {
+            float outer = start + offsets[i] * scale;
+            float inner = start + offsets[i + 1] * scale;
+            float min = Math.min(outer, inner);
+            float max = Math.max(outer, inner);
+            int index = i * 4;
+
+            if (direction.vertical) {
+                rects[index] = crossStart;
+                rects[index + 1] = min;
+                rects[index + 2] = crossEnd;
+                rects[index + 3] = max;
+            } else {
+                rects[index] = min;
+                rects[index + 1] = crossStart;
+                rects[index + 2] = max;
+                rects[index + 3] = crossEnd;
+            }
+        }
+    }
+}
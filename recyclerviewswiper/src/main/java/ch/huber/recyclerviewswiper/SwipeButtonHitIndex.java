@@ -0,0 +1,93 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.Arrays;
+
+/**
+ * Hit-test structure for the @{@link SwipeButton} of the currently swiped row. The button edges
+ * are laid out once, when the row gets swiped, into a sorted array from the same offset table the
+ * buttons are drawn with. A tap is then resolved by comparing the row bounds and a binary search
+ * over the edges, independent of whatever the last drawn frame looked like.
+ * <p>
+ * Rows swiped UP and DOWN are laid out and hit-tested with swapped axes, so "horizontal" below
+ * refers to the swipe axis of the row.
+ */
+class SwipeButtonHitIndex {
+
+    private int row = -1;
+
+    private int top;
+    private int bottom;
+
+    private boolean rightSide;
+    private int count;
+
+    /**
+     * Sorted button edges on the horizontal axis, {@link #count} + 1 values are in use.
+     */
+    private float[] edges = new float[8];
+
+    /**
+     * Lays out the edges of @count buttons on one side of a row from the offsets of the fully
+     * revealed buttons, as laid out by
+     * {@link SwipeButtonLayout#layoutOffsets(float[], float[], int, float, float[])}.
+     *
+     * @param row       Adapter position of the row
+     * @param left      Left bound of the row
+     * @param top       Top bound of the row
+     * @param right     Right bound of the row
+     * @param bottom    Bottom bound of the row
+     * @param rightSide Whether the buttons are revealed on the right side of the row
+     * @param count     Number of buttons
+     * @param offsets   {@code count + 1} offsets of the buttons from the outer edge of the row
+     */
+    void layout(int row, int left, int top, int right, int bottom, boolean rightSide, int count, float[] offsets) {
+        this.row = row;
+        this.top = top;
+        this.bottom = bottom;
+        this.rightSide = rightSide;
+        this.count = count;
+
+        if (edges.length < count + 1) {
+            edges = new float[count + 1];
+        }
+
+        // Edges are kept ascending, buttons on the right side start at the right bound
+
+        for (int i = 0; i <= count; i++) {
+            edges[i] = rightSide ? right - offsets[count - i] : left + offsets[i];
+        }
+    }
+
+    /**
+     * Removes the current layout, so no tap resolves to a button anymore.
+     */
+    void clear() {
+        row = -1;
+        count = 0;
+    }
+
+    /**
+     * Resolves the button at the given coordinates.
+     *
+     * @param x Coordinate on horizontal axis
+     * @param y Coordinate on vertical axis
+     * @return Index of the button within the list passed to the init methods, or -1 if no button
+     * was hit
+     */
+    int find(float x, float y) {
+
+        if (row < 0 || count == 0 || y < top || y >= bottom || x < edges[0] || x >= edges[count]) {
+            return -1;
+        }
+
+        int index = Arrays.binarySearch(edges, 0, count + 1, x);
+
+        // Exact hit on an edge belongs to the button to the right, otherwise take the insertion point
+
+        int slot = index >= 0 ? index : -index - 2;
+
+        // Buttons on the right side are added from the outer edge inwards
+
+        return rightSide ? count - 1 - slot : slot;
+    }
+}
@@ -0,0 +1,217 @@
+package ch.huber.recyclerviewswiper;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.appcompat.content.res.AppCompatResources;
+
+/**
+ * Process-wide cache of the icons drawn by @{@link SwipeButton}. Each icon resource is decoded
+ * once per density and target size, downsampled while decoding, and shared by all buttons showing
+ * it. Vector drawables are rasterized once into a bitmap of the target size. Icons are evicted in
+ * least recently used order once the byte budget is exceeded.
+ */
+public class SwipeButtonIconCache implements ComponentCallbacks2 {
+
+    /**
+     * Default byte budget of all cached icons. Default value is {@value}.
+     */
+    public static final int DEFAULT_MAX_BYTES = 2 * 1024 * 1024;
+
+    private static SwipeButtonIconCache instance;
+
+    private final LruCache<String, Bitmap> icons;
+
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Returns the process-wide instance of @{@link SwipeButtonIconCache}.
+     *
+     * @param context Context environment variable
+     * @return Shared instance
+     */
+    public static synchronized SwipeButtonIconCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new SwipeButtonIconCache(DEFAULT_MAX_BYTES);
+            context.getApplicationContext().registerComponentCallbacks(instance);
+        }
+
+        return instance;
+    }
+
+    private SwipeButtonIconCache(int maxBytes) {
+        this.icons = new LruCache<String, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap icon) {
+                return icon.getAllocationByteCount();
+            }
+        };
+    }
+
+    /**
+     * Changes the byte budget of all cached icons. Least recently used icons are evicted if the
+     * cache shrinks below its current size.
+     *
+     * @param maxBytes Maximum amount of bytes all cached icons together may use
+     */
+    public void setMaxBytes(int maxBytes) {
+        icons.resize(maxBytes);
+    }
+
+    /**
+     * Returns the given icon scaled to fit into the given size, keeping its aspect ratio. The icon
+     * is decoded if it is not cached yet.
+     *
+     * @param context Context to resolve the resource with
+     * @param iconRes Resource identifier of a bitmap or vector drawable
+     * @param width   Maximum width of the icon in pixels
+     * @param height  Maximum height of the icon in pixels
+     * @return Cached icon, or null if the resource could not be decoded
+     */
+    public Bitmap get(@NonNull Context context, @DrawableRes int iconRes, int width, int height) {
+        Resources resources = context.getResources();
+        String key = iconRes + "|" + resources.getDisplayMetrics().densityDpi + "|" + width + "|" + height;
+
+        synchronized (this) {
+            Bitmap icon = icons.get(key);
+
+            if (icon != null) {
+                hitCount++;
+                return icon;
+            }
+
+            missCount++;
+        }
+
+        Bitmap icon = decodeBitmap(resources, iconRes, width, height);
+
+        if (icon == null) {
+
+            // Not a bitmap, rasterize vector and other drawables once
+
+            icon = rasterizeDrawable(context, iconRes, width, height);
+        }
+
+        if (icon != null) {
+            icons.put(key, icon);
+        }
+
+        return icon;
+    }
+
+    /**
+     * @return Number of requested icons which were already decoded
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return Number of requested icons which had to be decoded
+     */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Removes all cached icons.
+     */
+    public void clear() {
+        icons.evictAll();
+    }
+
+    /**
+     * Decodes a bitmap resource with the largest power of two sample size which keeps the icon at
+     * least as large as the requested size.
+     */
+    private static Bitmap decodeBitmap(Resources resources, int iconRes, int width, int height) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeResource(resources, iconRes, options);
+
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+
+        int sampleSize = 1;
+
+        while (options.outWidth / (sampleSize * 2) >= width && options.outHeight / (sampleSize * 2) >= height) {
+            sampleSize *= 2;
+        }
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+
+        Bitmap bitmap = BitmapFactory.decodeResource(resources, iconRes, options);
+
+        if (bitmap == null) {
+            return null;
+        }
+
+        // Sampling only reduces by powers of two, scale the rest of the way down
+
+        float scale = Math.min((float) width / bitmap.getWidth(), (float) height / bitmap.getHeight());
+
+        if (scale < 1f) {
+            Bitmap scaled = Bitmap.createScaledBitmap(bitmap, Math.max(1, Math.round(bitmap.getWidth() * scale)),
+                    Math.max(1, Math.round(bitmap.getHeight() * scale)), true);
+
+            if (scaled != bitmap) {
+                bitmap.recycle();
+            }
+
+            bitmap = scaled;
+        }
+
+        return bitmap;
+    }
+
+    private static Bitmap rasterizeDrawable(Context context, int iconRes, int width, int height) {
+        Drawable drawable = AppCompatResources.getDrawable(context, iconRes);
+
+        if (drawable == null) {
+            return null;
+        }
+
+        int intrinsicWidth = drawable.getIntrinsicWidth() > 0 ? drawable.getIntrinsicWidth() : width;
+        int intrinsicHeight = drawable.getIntrinsicHeight() > 0 ? drawable.getIntrinsicHeight() : height;
+        float scale = Math.min((float) width / intrinsicWidth, (float) height / intrinsicHeight);
+
+        int iconWidth = Math.max(1, Math.round(intrinsicWidth * scale));
+        int iconHeight = Math.max(1, Math.round(intrinsicHeight * scale));
+
+        Bitmap bitmap = Bitmap.createBitmap(iconWidth, iconHeight, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, iconWidth, iconHeight);
+        drawable.draw(new Canvas(bitmap));
+
+        return bitmap;
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+
+        // Icons are keyed by density, so they stay valid
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            clear();
+        }
+    }
+}
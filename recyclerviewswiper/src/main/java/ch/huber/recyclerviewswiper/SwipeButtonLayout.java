@@ -0,0 +1,50 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Layout of the @{@link SwipeButton} revealed next to a swiped item. Kept free of Android classes,
+ * so it can be unit tested and benchmarked on the host. Frames place the buttons through
+ * @{@link SwipeButtonGeometry}, which scales the offsets resolved here.
+ */
+final class SwipeButtonLayout {
+
+    private SwipeButtonLayout() {
+    }
+
+    /**
+     * Resolves the widths of @count fully revealed buttons into offsets from the outer edge of the
+     * item. Buttons with a width of their own keep it, weighted buttons share the width of one
+     * default button each in proportion to their weights, so buttons with the default weight of 1
+     * are exactly @buttonWidth wide.
+     *
+     * @param widths      Width of every button, or a negative value for weighted buttons
+     * @param weights     Weight of every button, only read for weighted buttons
+     * @param count       Number of buttons
+     * @param buttonWidth Width of a button with the default weight
+     * @param offsets     Receives {@code count + 1} offsets, button {@code i} spans from
+     *                    {@code offsets[i]} to {@code offsets[i + 1]}, the last offset is the
+     *                    width of all buttons together
+     * @return Width of all buttons together
+     */
+    static float layoutOffsets(float[] widths, float[] weights, int count, float buttonWidth, float[] offsets) {
+        int weightedCount = 0;
+        float weightSum = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (widths[i] < 0) {
+                weightedCount++;
+                weightSum += weights[i];
+            }
+        }
+
+        float weightedWidth = weightSum > 0 ? weightedCount * buttonWidth / weightSum : 0;
+        float offset = 0;
+
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offset;
+            offset += widths[i] < 0 ? weights[i] * weightedWidth : widths[i];
+        }
+
+        offsets[count] = offset;
+        return offset;
+    }
+}
@@ -0,0 +1,135 @@
+package ch.huber.recyclerviewswiper;
+
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+
+/**
+ * Pool of released @{@link SwipeButton} instances, similar to
+ * @{@link androidx.recyclerview.widget.RecyclerView.RecycledViewPool}. Buttons are pooled by their
+ * type and handed out again to the init methods of @{@link RecyclerViewSwiper}, so rows can be
+ * re-bound to existing buttons instead of constructing new ones.
+ * <p>
+ * A pool can be shared between multiple @{@link RecyclerViewSwiper} instances.
+ */
+public class SwipeButtonPool {
+
+    /**
+     * Default number of pooled buttons per type. Default value is {@value}.
+     */
+    public static final int DEFAULT_MAX_SCRAP = 5;
+
+    private SparseArray<ScrapData> scrap = new SparseArray<>();
+
+    private int hitCount;
+    private int missCount;
+
+    private static class ScrapData {
+        final ArrayList<SwipeButton> scrapHeap = new ArrayList<>();
+        int maxScrap = DEFAULT_MAX_SCRAP;
+    }
+
+    /**
+     * Sets the maximum number of pooled buttons of the given type.
+     *
+     * @param type Type of the @{@link SwipeButton}
+     * @param max  Maximum number of pooled buttons
+     */
+    public void setMaxRecycledButtons(int type, int max) {
+        ScrapData scrapData = getScrapDataForType(type);
+        scrapData.maxScrap = max;
+
+        ArrayList<SwipeButton> scrapHeap = scrapData.scrapHeap;
+
+        while (scrapHeap.size() > max) {
+            scrapHeap.remove(scrapHeap.size() - 1);
+        }
+    }
+
+    /**
+     * Acquires a pooled @{@link SwipeButton} of the given type.
+     *
+     * @param type Type of the @{@link SwipeButton}
+     * @return Pooled button, or null if there is none and a new button has to be created
+     */
+    public SwipeButton getRecycledButton(int type) {
+        ScrapData scrapData = scrap.get(type);
+
+        if (scrapData != null && !scrapData.scrapHeap.isEmpty()) {
+            hitCount++;
+            return scrapData.scrapHeap.remove(scrapData.scrapHeap.size() - 1);
+        }
+
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Releases the given @{@link SwipeButton} into the pool. Buttons without a type, registered
+     * template buttons and buttons exceeding the maximum of their type are dropped.
+     *
+     * @param swipeButton Button to release
+     */
+    public void putRecycledButton(SwipeButton swipeButton) {
+        int type = swipeButton.getType();
+
+        if (type == SwipeButton.INVALID_TYPE || swipeButton.isShared()) {
+            return;
+        }
+
+        ArrayList<SwipeButton> scrapHeap = getScrapDataForType(type).scrapHeap;
+
+        if (scrapHeap.size() >= scrap.get(type).maxScrap || scrapHeap.contains(swipeButton)) {
+            return;
+        }
+
+        swipeButton.reset();
+        scrapHeap.add(swipeButton);
+    }
+
+    /**
+     * @param type Type of the @{@link SwipeButton}
+     * @return Number of pooled buttons of the given type
+     */
+    public int getRecycledButtonCount(int type) {
+        ScrapData scrapData = scrap.get(type);
+        return scrapData != null ? scrapData.scrapHeap.size() : 0;
+    }
+
+    /**
+     * @return Number of requests served by a pooled button
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return Number of requests which found no pooled button
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Drops all pooled buttons and resets the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < scrap.size(); i++) {
+            scrap.valueAt(i).scrapHeap.clear();
+        }
+
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    private ScrapData getScrapDataForType(int type) {
+        ScrapData scrapData = scrap.get(type);
+
+        if (scrapData == null) {
+            scrapData = new ScrapData();
+            scrap.put(type, scrapData);
+        }
+
+        return scrapData;
+    }
+}
@@ -0,0 +1,16 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Interface deciding whether a registered @{@link SwipeButton} is shown on a specific item
+ */
+public interface SwipeButtonPredicate {
+
+    /**
+     * Decides whether the registered @{@link SwipeButton} is shown on the given item
+     *
+     * @param position Current item position in @{@link androidx.recyclerview.widget.RecyclerView}
+     * @return Whether the @{@link SwipeButton} is shown
+     */
+    boolean isVisible(int position);
+
+}
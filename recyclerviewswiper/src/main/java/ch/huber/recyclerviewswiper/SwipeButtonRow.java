@@ -0,0 +1,90 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Buttons of one side of a row, along with their layout when fully revealed. The width of every
+ * button is resolved once into a table of offsets from the outer edge of the row, frames only
+ * scale that table by how far the row is revealed.
+ */
+final class SwipeButtonRow {
+
+    /**
+     * Row without buttons.
+     */
+    static final SwipeButtonRow EMPTY = new SwipeButtonRow(Collections.<SwipeButton>emptyList());
+
+    private final List<SwipeButton> buttons;
+
+    /**
+     * Offset of the outer edge of every button from the outer edge of the row, followed by the
+     * width of all buttons together.
+     */
+    private float[] offsets;
+
+    /**
+     * Default button width the offsets were laid out for, -1 if they are not laid out yet.
+     */
+    private int layoutButtonWidth = -1;
+
+    SwipeButtonRow(List<SwipeButton> buttons) {
+        this.buttons = buttons;
+    }
+
+    /**
+     * @return Number of buttons
+     */
+    int size() {
+        return buttons.size();
+    }
+
+    /**
+     * @param index Index of the button from the outer edge of the row
+     * @return Button at the given index
+     */
+    SwipeButton get(int index) {
+        return buttons.get(index);
+    }
+
+    /**
+     * Returns the offsets of the fully revealed buttons. The widths are resolved on the first call
+     * and again only once the default button width changes.
+     *
+     * @param buttonWidth Width of a button with the default weight
+     * @return {@link #size()} + 1 offsets, see {@link SwipeButtonLayout#layoutOffsets}
+     */
+    float[] layout(int buttonWidth) {
+
+        if (layoutButtonWidth == buttonWidth) {
+            return offsets;
+        }
+
+        int count = buttons.size();
+        float[] widths = new float[count];
+        float[] weights = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            SwipeButton button = buttons.get(i);
+            widths[i] = button.resolveWidth();
+            weights[i] = button.getWeight();
+        }
+
+        if (offsets == null || offsets.length < count + 1) {
+            offsets = new float[count + 1];
+        }
+
+        SwipeButtonLayout.layoutOffsets(widths, weights, count, buttonWidth, offsets);
+        layoutButtonWidth = buttonWidth;
+
+        return offsets;
+    }
+
+    /**
+     * @param buttonWidth Width of a button with the default weight
+     * @return Width of all fully revealed buttons together
+     */
+    float getRevealWidth(int buttonWidth) {
+        return layout(buttonWidth)[buttons.size()];
+    }
+}
@@ -0,0 +1,67 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Buttons registered for one side of all items of an adapter view type. The registered
+ * @{@link SwipeButton} instances are shared by all rows of that view type.
+ */
+class SwipeButtonTemplate {
+
+    private final List<SwipeButton> swipeButtons = new ArrayList<>();
+    private final List<SwipeButtonPredicate> predicates = new ArrayList<>();
+
+    private boolean hasPredicates;
+
+    /**
+     * Row shared by all positions while no button has a predicate, null until first resolved.
+     */
+    private SwipeButtonRow sharedRow;
+
+    /**
+     * Appends a button to the template.
+     *
+     * @param swipeButton Button shared by all rows of the view type
+     * @param predicate   Decides per position whether the button is shown, or null to always
+     *                    show it
+     */
+    void add(SwipeButton swipeButton, SwipeButtonPredicate predicate) {
+        swipeButton.setShared(true);
+        swipeButtons.add(swipeButton);
+        predicates.add(predicate);
+        hasPredicates |= predicate != null;
+        sharedRow = null;
+    }
+
+    /**
+     * Resolves the buttons of the given position. Without predicates, all positions share the
+     * same row along with its resolved widths, so no row is allocated per item.
+     *
+     * @param position Adapter position of the row
+     * @return Buttons shown on the row
+     */
+    SwipeButtonRow resolve(int position) {
+
+        if (!hasPredicates) {
+            if (sharedRow == null) {
+                sharedRow = new SwipeButtonRow(Collections.unmodifiableList(new ArrayList<>(swipeButtons)));
+            }
+
+            return sharedRow;
+        }
+
+        List<SwipeButton> visibleSwipeButtons = new ArrayList<>(swipeButtons.size());
+
+        for (int i = 0, size = swipeButtons.size(); i < size; i++) {
+            SwipeButtonPredicate predicate = predicates.get(i);
+
+            if (predicate == null || predicate.isVisible(position)) {
+                visibleSwipeButtons.add(swipeButtons.get(i));
+            }
+        }
+
+        return new SwipeButtonRow(visibleSwipeButtons);
+    }
+}
@@ -0,0 +1,124 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Build;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+
+/**
+ * Process-wide cache of the text layouts drawn by @{@link SwipeButton}. Labels are laid out once
+ * per text, text size and width bucket into a centered @{@link StaticLayout} of at most
+ * {@link #MAX_LINES} lines, ellipsized at the end if they still do not fit. Widths are rounded
+ * down to buckets of {@link #WIDTH_BUCKET_PX}, so a growing button is only laid out again every
+ * few pixels.
+ * <p>
+ * Lookups are keyed by a primitive hash and do not allocate. Must only be used on the main thread.
+ */
+final class SwipeButtonTextLayoutCache {
+
+    /**
+     * Width of a bucket in pixels. Default value is {@value}.
+     */
+    static final int WIDTH_BUCKET_PX = 16;
+
+    /**
+     * Maximum number of lines of a label. Default value is {@value}.
+     */
+    static final int MAX_LINES = 2;
+
+    private static final int MAX_SIZE = 128;
+
+    private static final SwipeButtonBuffer<Entry> entries = new SwipeButtonBuffer<>(MAX_SIZE);
+
+    private SwipeButtonTextLayoutCache() {
+    }
+
+    /**
+     * Laid out label, along with everything it was laid out for.
+     */
+    static final class Entry {
+
+        final String text;
+        final float textSize;
+        final int width;
+        final Layout layout;
+
+        Entry(String text, float textSize, int width, Layout layout) {
+            this.text = text;
+            this.textSize = textSize;
+            this.width = width;
+            this.layout = layout;
+        }
+
+        boolean matches(String text, float textSize, int width) {
+            return this.width == width && this.textSize == textSize && this.text.equals(text);
+        }
+    }
+
+    /**
+     * @param width Available width in pixels
+     * @return Width of the bucket the given width falls into
+     */
+    static int bucket(int width) {
+        return width - width % WIDTH_BUCKET_PX;
+    }
+
+    /**
+     * Returns the layout of the given label within the width bucket of @width. The label is laid
+     * out if it is not cached yet.
+     *
+     * @param text  Label of the button
+     * @param paint Paint of the label, only its text size is part of the key
+     * @param width Available width in pixels
+     * @return Cached layout, or null if the bucket is too narrow for any text
+     */
+    static Entry obtain(String text, TextPaint paint, int width) {
+        int bucket = bucket(width);
+
+        if (bucket <= 0 || text.isEmpty()) {
+            return null;
+        }
+
+        float textSize = paint.getTextSize();
+        long key = key(text, textSize, bucket);
+        Entry entry = entries.get(key);
+
+        if (entry == null || !entry.matches(text, textSize, bucket)) {
+
+            // Not laid out yet, or a different label with the same hash
+
+            entry = new Entry(text, textSize, bucket, layout(text, paint, bucket));
+            entries.put(key, entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * @return Primitive key of a label, labels with the same hash are told apart by
+     * {@link Entry#matches(String, float, int)}
+     */
+    static long key(String text, float textSize, int bucket) {
+        return ((long) text.hashCode() << 32) ^ (Float.floatToIntBits(textSize) * 31L + bucket);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Layout layout(String text, TextPaint paint, int width) {
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            return StaticLayout.Builder.obtain(text, 0, text.length(), paint, width)
+                    .setAlignment(Layout.Alignment.ALIGN_CENTER)
+                    .setEllipsize(TextUtils.TruncateAt.END)
+                    .setMaxLines(MAX_LINES)
+                    .setIncludePad(false)
+                    .build();
+        }
+
+        // Line limits are not supported before Marshmallow, fall back to a single ellipsized line
+
+        CharSequence ellipsized = TextUtils.ellipsize(text, paint, width, TextUtils.TruncateAt.END);
+        return new StaticLayout(ellipsized, 0, ellipsized.length(), paint, width, Layout.Alignment.ALIGN_CENTER,
+                1f, 0f, false, null, width);
+    }
+}
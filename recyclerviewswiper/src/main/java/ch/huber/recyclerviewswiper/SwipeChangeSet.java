@@ -0,0 +1,210 @@
+package ch.huber.recyclerviewswiper;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.Arrays;
+
+/**
+ * Collection of item changes, recorded in the order they are applied to the data set and
+ * dispatched as range notifications. Adjacent changes of the same kind are coalesced while they are
+ * recorded, so removing a run of items one by one results in a single
+ * {@code notifyItemRangeRemoved}.
+ */
+public class SwipeChangeSet {
+
+    private static final int REMOVE = 0;
+    private static final int INSERT = 1;
+    private static final int CHANGE = 2;
+
+    /**
+     * Recorded ranges, each one stored as kind, position start and item count.
+     */
+    private int[] ranges = new int[3 * 8];
+    private int size;
+
+    /**
+     * Records the removal of the item at the given position.
+     *
+     * @param position Position of the item at the time it is removed
+     */
+    public void remove(int position) {
+
+        if (size > 0 && kindAt(size - 1) == REMOVE) {
+            int start = startAt(size - 1);
+
+            // Removals in descending order extend the range to the front, in ascending order the
+            // following item moved into the removed position
+
+            if (position == start - 1 || position == start) {
+                ranges[3 * (size - 1) + 1] = Math.min(start, position);
+                ranges[3 * (size - 1) + 2]++;
+                return;
+            }
+        }
+
+        add(REMOVE, position);
+    }
+
+    /**
+     * Records the insertion of an item at the given position.
+     *
+     * @param position Position of the item after it was inserted
+     */
+    public void insert(int position) {
+
+        if (size > 0 && kindAt(size - 1) == INSERT) {
+            int start = startAt(size - 1);
+            int count = countAt(size - 1);
+
+            if (position >= start && position <= start + count) {
+                ranges[3 * (size - 1) + 2]++;
+                return;
+            }
+        }
+
+        add(INSERT, position);
+    }
+
+    /**
+     * Records a change of the item at the given position.
+     *
+     * @param position Position of the changed item
+     */
+    public void change(int position) {
+
+        if (size > 0 && kindAt(size - 1) == CHANGE) {
+            int start = startAt(size - 1);
+            int count = countAt(size - 1);
+
+            if (position >= start && position < start + count) {
+
+                // Changed already
+
+                return;
+            }
+
+            if (position == start - 1 || position == start + count) {
+                ranges[3 * (size - 1) + 1] = Math.min(start, position);
+                ranges[3 * (size - 1) + 2]++;
+                return;
+            }
+        }
+
+        add(CHANGE, position);
+    }
+
+    /**
+     * Maps a position from before all recorded changes to the position of the same item after
+     * them.
+     *
+     * @param position Position before the recorded changes
+     * @return Position after the recorded changes, or -1 if the item was removed
+     */
+    public int transform(int position) {
+        for (int i = 0; i < size && position >= 0; i++) {
+            int start = startAt(i);
+            int count = countAt(i);
+
+            switch (kindAt(i)) {
+                case REMOVE:
+                    if (position >= start + count) {
+                        position -= count;
+                    } else if (position >= start) {
+                        position = -1;
+                    }
+                    break;
+                case INSERT:
+                    if (position >= start) {
+                        position += count;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * @return Number of recorded ranges, which equals the number of notifications dispatched
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether no change was recorded
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all recorded changes.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Dispatches the recorded changes to the given adapter, in the order they were recorded.
+     *
+     * @param adapter Adapter of the changed data set
+     */
+    public void dispatchUpdatesTo(@NonNull RecyclerView.Adapter<?> adapter) {
+        dispatchUpdatesTo(new AdapterListUpdateCallback(adapter));
+    }
+
+    /**
+     * Dispatches the recorded changes to the given callback, in the order they were recorded.
+     *
+     * @param callback Receives one call per recorded range
+     */
+    public void dispatchUpdatesTo(@NonNull ListUpdateCallback callback) {
+        for (int i = 0; i < size; i++) {
+            switch (kindAt(i)) {
+                case REMOVE:
+                    callback.onRemoved(startAt(i), countAt(i));
+                    break;
+                case INSERT:
+                    callback.onInserted(startAt(i), countAt(i));
+                    break;
+                default:
+                    callback.onChanged(startAt(i), countAt(i), null);
+                    break;
+            }
+        }
+    }
+
+    private void add(int kind, int position) {
+
+        if (position < 0) {
+            throw new IndexOutOfBoundsException("position < 0");
+        }
+
+        if (ranges.length < 3 * (size + 1)) {
+            ranges = Arrays.copyOf(ranges, ranges.length * 2);
+        }
+
+        ranges[3 * size] = kind;
+        ranges[3 * size + 1] = position;
+        ranges[3 * size + 2] = 1;
+        size++;
+    }
+
+    private int kindAt(int index) {
+        return ranges[3 * index];
+    }
+
+    private int startAt(int index) {
+        return ranges[3 * index + 1];
+    }
+
+    private int countAt(int index) {
+        return ranges[3 * index + 2];
+    }
+}
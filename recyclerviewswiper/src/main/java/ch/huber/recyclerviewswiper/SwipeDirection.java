@@ -0,0 +1,49 @@
+package ch.huber.recyclerviewswiper;
+
+import androidx.recyclerview.widget.ItemTouchHelper;
+
+/**
+ * Direction an item is swiped in. Items swiped towards the start of an axis, LEFT or UP, reveal
+ * the buttons of their end side, the right or bottom edge, and the other way round.
+ */
+enum SwipeDirection {
+
+    LEFT(ItemTouchHelper.LEFT, false, true),
+    RIGHT(ItemTouchHelper.RIGHT, false, false),
+    UP(ItemTouchHelper.UP, true, true),
+    DOWN(ItemTouchHelper.DOWN, true, false);
+
+    /**
+     * Flag of the direction within the swipe directions of ItemTouchHelper.
+     */
+    final int flag;
+
+    /**
+     * Whether the item moves along the vertical axis.
+     */
+    final boolean vertical;
+
+    /**
+     * Whether the buttons are revealed on the end side of the item, its right or bottom edge.
+     */
+    final boolean endSide;
+
+    SwipeDirection(int flag, boolean vertical, boolean endSide) {
+        this.flag = flag;
+        this.vertical = vertical;
+        this.endSide = endSide;
+    }
+
+    /**
+     * @param vertical    Whether items are swiped along the vertical axis
+     * @param translation Translation of the item along its swipe axis, not 0
+     * @return Direction the item is swiped in
+     */
+    static SwipeDirection of(boolean vertical, float translation) {
+        if (vertical) {
+            return translation < 0 ? UP : DOWN;
+        }
+
+        return translation < 0 ? LEFT : RIGHT;
+    }
+}
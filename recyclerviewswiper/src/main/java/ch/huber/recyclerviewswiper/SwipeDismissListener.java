@@ -0,0 +1,18 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Interface for dismissing items which got fully swiped in a dismiss direction of
+ * @{@link RecyclerViewSwiper}
+ */
+public interface SwipeDismissListener {
+
+    /**
+     * Fires once an item got fully swiped in a dismiss direction. The item should be removed from
+     * the data set with {@code notifyItemRemoved} right away, while the actual deletion can be
+     * deferred by a @{@link SwipeDismissQueue}.
+     *
+     * @param position Current item position in @{@link androidx.recyclerview.widget.RecyclerView}
+     */
+    void onDismiss(int position);
+
+}
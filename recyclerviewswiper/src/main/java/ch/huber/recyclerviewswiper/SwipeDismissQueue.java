@@ -0,0 +1,198 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Defers the deletion of dismissed items for an undo window. Every dismissal restarts the window,
+ * so items dismissed in quick succession expire together and are handed to the
+ * @{@link SwipeDismissSink} as one batch, on a background executor. Until then, every pending item
+ * can be restored by an undo.
+ * <p>
+ * All methods have to be called on the main thread.
+ *
+ * @param <T> Type of the dismissed items
+ */
+public class SwipeDismissQueue<T> {
+
+    /**
+     * Default time in milliseconds a dismissed item can be restored. Default value is {@value}.
+     */
+    public static final long DEFAULT_UNDO_WINDOW_MILLIS = 3000;
+
+    private static final Object COMMIT_EXECUTOR_LOCK = new Object();
+    private static Executor commitExecutor;
+
+    private final SwipeDismissSink<T> sink;
+    private final Executor executor;
+
+    private long undoWindowMillis = DEFAULT_UNDO_WINDOW_MILLIS;
+
+    private Handler handler;
+
+    private final Runnable expireRunnable = new Runnable() {
+        @Override
+        public void run() {
+            commitAll();
+        }
+    };
+
+    /**
+     * Dismissed items in the order they were dismissed.
+     */
+    private final List<T> pendingItems = new ArrayList<>();
+
+    /**
+     * Creates a new instance of @{@link SwipeDismissQueue}, committing on a single background
+     * thread shared by all instances, so batches are written in the order they expired.
+     *
+     * @param sink Deletes the expired items
+     */
+    public SwipeDismissQueue(@NonNull SwipeDismissSink<T> sink) {
+        this(sink, getCommitExecutor());
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeDismissQueue}.
+     *
+     * @param sink     Deletes the expired items
+     * @param executor Executor the sink is called on, must not run on the main thread
+     */
+    public SwipeDismissQueue(@NonNull SwipeDismissSink<T> sink, @NonNull Executor executor) {
+        this.sink = sink;
+        this.executor = executor;
+    }
+
+    private static Executor getCommitExecutor() {
+        synchronized (COMMIT_EXECUTOR_LOCK) {
+            if (commitExecutor == null) {
+
+                // Daemon thread, so the shared executor never keeps the process alive
+
+                commitExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, "SwipeDismissQueue");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+
+            return commitExecutor;
+        }
+    }
+
+    /**
+     * Sets how long dismissed items can be restored.
+     *
+     * @param undoWindowMillis Time in milliseconds, or 0 to only commit on {@link #commitAll()}
+     */
+    public void setUndoWindowMillis(long undoWindowMillis) {
+        this.undoWindowMillis = undoWindowMillis;
+    }
+
+    /**
+     * Defers the deletion of the given item and restarts the undo window.
+     *
+     * @param item Dismissed item, already removed from the adapter
+     */
+    public void dismiss(@NonNull T item) {
+        pendingItems.add(item);
+
+        if (undoWindowMillis > 0) {
+            if (handler == null) {
+                handler = new Handler(Looper.getMainLooper());
+            }
+
+            handler.removeCallbacks(expireRunnable);
+            handler.postDelayed(expireRunnable, undoWindowMillis);
+        }
+    }
+
+    /**
+     * Restores the given item, so it is not deleted.
+     *
+     * @param item Dismissed item
+     * @return Whether the item was still pending
+     */
+    public boolean undo(@NonNull T item) {
+        boolean removed = pendingItems.remove(item);
+
+        if (pendingItems.isEmpty()) {
+            cancelExpiry();
+        }
+
+        return removed;
+    }
+
+    /**
+     * Restores the most recently dismissed item, so it is not deleted.
+     *
+     * @return Restored item, or null if no item is pending
+     */
+    public T undoLast() {
+
+        if (pendingItems.isEmpty()) {
+            return null;
+        }
+
+        T item = pendingItems.remove(pendingItems.size() - 1);
+
+        if (pendingItems.isEmpty()) {
+            cancelExpiry();
+        }
+
+        return item;
+    }
+
+    /**
+     * @param item Dismissed item
+     * @return Whether the item is waiting for its deletion
+     */
+    public boolean isPending(@NonNull T item) {
+        return pendingItems.contains(item);
+    }
+
+    /**
+     * @return Number of items waiting for their deletion
+     */
+    public int getPendingCount() {
+        return pendingItems.size();
+    }
+
+    /**
+     * Hands all pending items to the sink right away, for example when the host is stopped.
+     */
+    public void commitAll() {
+        cancelExpiry();
+
+        if (pendingItems.isEmpty()) {
+            return;
+        }
+
+        final List<T> batch = new ArrayList<>(pendingItems);
+        pendingItems.clear();
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                sink.commit(batch);
+            }
+        });
+    }
+
+    private void cancelExpiry() {
+        if (handler != null) {
+            handler.removeCallbacks(expireRunnable);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.List;
+
+/**
+ * Interface for committing the deletions of a @{@link SwipeDismissQueue}
+ *
+ * @param <T> Type of the dismissed items
+ */
+public interface SwipeDismissSink<T> {
+
+    /**
+     * Fires on the executor of the @{@link SwipeDismissQueue} with all items whose undo window
+     * expired, so the whole batch can be deleted with a single write
+     *
+     * @param items Dismissed items in the order they were dismissed, owned by the sink
+     */
+    void commit(List<T> items);
+
+}
@@ -0,0 +1,237 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Applies the list resulting from a @{@link SwipeButton} action to an adapter with minimal
+ * updates. The difference to the current list is computed by @{@link DiffUtil} on a background
+ * executor and dispatched on the main thread, so neither the computation nor a full
+ * {@code notifyDataSetChanged} costs a frame. A @{@link RecyclerViewSwiper} attached to the
+ * adapter follows the dispatched insertions, removals and moves, so open items and their buttons
+ * stay with their items.
+ * <p>
+ * The adapter has to read its items from {@link #getCurrentList()}.
+ *
+ * @param <T> Type of the list items
+ */
+public class SwipeListDiffer<T> {
+
+    private static final Object DIFF_EXECUTOR_LOCK = new Object();
+    private static Executor diffExecutor;
+
+    private final ListUpdateCallback updateCallback;
+    private final DiffUtil.ItemCallback<T> itemCallback;
+    private final Executor backgroundExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private List<T> currentList = Collections.emptyList();
+
+    /**
+     * Generation of the latest submitted list, results of older submissions are dropped.
+     */
+    private int maxScheduledGeneration;
+
+    /**
+     * Creates a new instance of @{@link SwipeListDiffer}, computing differences on an executor
+     * shared by all instances.
+     *
+     * @param adapter      Adapter showing the list
+     * @param itemCallback Compares the items of two lists
+     */
+    public SwipeListDiffer(@NonNull RecyclerView.Adapter<?> adapter, @NonNull DiffUtil.ItemCallback<T> itemCallback) {
+        this(new AdapterListUpdateCallback(adapter), itemCallback, getDiffExecutor());
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeListDiffer}.
+     *
+     * @param updateCallback     Receives the updates of every submitted list
+     * @param itemCallback       Compares the items of two lists
+     * @param backgroundExecutor Executor computing the differences, must not run on the main thread
+     */
+    public SwipeListDiffer(@NonNull ListUpdateCallback updateCallback, @NonNull DiffUtil.ItemCallback<T> itemCallback, @NonNull Executor backgroundExecutor) {
+        this.updateCallback = updateCallback;
+        this.itemCallback = itemCallback;
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    private static Executor getDiffExecutor() {
+        synchronized (DIFF_EXECUTOR_LOCK) {
+            if (diffExecutor == null) {
+
+                // Daemon threads, so the shared executor never keeps the process alive
+
+                diffExecutor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, "SwipeListDiffer");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+
+            return diffExecutor;
+        }
+    }
+
+    /**
+     * @return Read-only list currently shown by the adapter
+     */
+    @NonNull
+    public List<T> getCurrentList() {
+        return currentList;
+    }
+
+    /**
+     * Submits the list resulting from an action, see {@link #submitList(List, Runnable)}.
+     *
+     * @param newList New list, must not be modified afterwards
+     */
+    public void submitList(@Nullable List<T> newList) {
+        submitList(newList, null);
+    }
+
+    /**
+     * Submits the list resulting from an action. The difference to the current list is computed in
+     * the background, the adapter keeps showing the current list until it is dispatched. A list
+     * submitted while a previous one is still computed replaces it. Must be called on the main
+     * thread.
+     *
+     * @param newList        New list, must not be modified afterwards
+     * @param commitCallback Runs once the list is shown by the adapter, may be null
+     */
+    public void submitList(@Nullable final List<T> newList, @Nullable final Runnable commitCallback) {
+        final int generation = ++maxScheduledGeneration;
+
+        if (newList == currentList) {
+
+            // Nothing to do, the list is shown already
+
+            runCommitCallback(commitCallback);
+            return;
+        }
+
+        if (newList == null || newList.isEmpty()) {
+            int count = currentList.size();
+            currentList = Collections.emptyList();
+
+            if (count > 0) {
+                updateCallback.onRemoved(0, count);
+            }
+
+            runCommitCallback(commitCallback);
+            return;
+        }
+
+        if (currentList.isEmpty()) {
+
+            // Fast path, everything is inserted
+
+            currentList = Collections.unmodifiableList(newList);
+            updateCallback.onInserted(0, newList.size());
+            runCommitCallback(commitCallback);
+            return;
+        }
+
+        final List<T> oldList = currentList;
+
+        backgroundExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final DiffUtil.DiffResult result = DiffUtil.calculateDiff(new ListCallback(oldList, newList));
+
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation == maxScheduledGeneration) {
+                            currentList = Collections.unmodifiableList(newList);
+                            result.dispatchUpdatesTo(updateCallback);
+                            runCommitCallback(commitCallback);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private static void runCommitCallback(Runnable commitCallback) {
+        if (commitCallback != null) {
+            commitCallback.run();
+        }
+    }
+
+    /**
+     * Compares two snapshots by the @{@link DiffUtil.ItemCallback} of the differ.
+     */
+    private class ListCallback extends DiffUtil.Callback {
+
+        private final List<T> oldList;
+        private final List<T> newList;
+
+        ListCallback(List<T> oldList, List<T> newList) {
+            this.oldList = oldList;
+            this.newList = newList;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return oldList.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return newList.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            T oldItem = oldList.get(oldItemPosition);
+            T newItem = newList.get(newItemPosition);
+
+            if (oldItem != null && newItem != null) {
+                return itemCallback.areItemsTheSame(oldItem, newItem);
+            }
+
+            return oldItem == null && newItem == null;
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            T oldItem = oldList.get(oldItemPosition);
+            T newItem = newList.get(newItemPosition);
+
+            if (oldItem != null && newItem != null) {
+                return itemCallback.areContentsTheSame(oldItem, newItem);
+            }
+
+            return oldItem == null && newItem == null;
+        }
+
+        @Override
+        public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+            T oldItem = oldList.get(oldItemPosition);
+            T newItem = newList.get(newItemPosition);
+
+            if (oldItem != null && newItem != null) {
+                return itemCallback.getChangePayload(oldItem, newItem);
+            }
+
+            return null;
+        }
+    }
+}
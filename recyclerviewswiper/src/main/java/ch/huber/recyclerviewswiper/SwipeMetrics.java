@@ -0,0 +1,186 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.Arrays;
+
+/**
+ * Metrics of a single swipe, from the moment an item gets picked up until it is closed again.
+ * Collected by @{@link RecyclerViewSwiper} only while a @{@link SwipeMetricsListener} is set.
+ */
+public class SwipeMetrics {
+
+    /**
+     * Upper bounds of the frame duration histogram buckets in nanoseconds, the last bucket holds
+     * all longer frames.
+     */
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = {
+            250_000L, 500_000L, 1_000_000L, 2_000_000L, 4_000_000L, 8_000_000L, 16_000_000L, Long.MAX_VALUE
+    };
+
+    private int position = -1;
+
+    private int framesDrawn;
+    private long frameDurationNanos;
+    private final int[] frameDurationHistogram = new int[BUCKET_UPPER_BOUNDS_NANOS.length];
+
+    private int buttonsBuilt;
+    private int bufferHits;
+    private int bufferMisses;
+    private int faceCacheHits;
+    private int faceCacheMisses;
+    private int recoverRebinds;
+
+    private int clicks;
+    private long lastTapToClickLatencyMillis = -1;
+
+    /**
+     * @return Adapter position of the swiped item when the swipe started
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return Number of frames in which the swiped item was drawn
+     */
+    public int getFramesDrawn() {
+        return framesDrawn;
+    }
+
+    /**
+     * @return Total time spent drawing the swiped item and its buttons in nanoseconds
+     */
+    public long getFrameDurationNanos() {
+        return frameDurationNanos;
+    }
+
+    /**
+     * @return Number of buckets in the frame duration histogram
+     */
+    public static int getFrameDurationBucketCount() {
+        return BUCKET_UPPER_BOUNDS_NANOS.length;
+    }
+
+    /**
+     * @param bucket Index of the bucket
+     * @return Exclusive upper bound of the given bucket in nanoseconds
+     */
+    public static long getFrameDurationBucketUpperBoundNanos(int bucket) {
+        return BUCKET_UPPER_BOUNDS_NANOS[bucket];
+    }
+
+    /**
+     * @param bucket Index of the bucket
+     * @return Number of frames whose draw duration falls into the given bucket
+     */
+    public int getFrameDurationCount(int bucket) {
+        return frameDurationHistogram[bucket];
+    }
+
+    /**
+     * @return Number of @{@link SwipeButton} built by the init methods or resolved from templates
+     */
+    public int getButtonsBuilt() {
+        return buttonsBuilt;
+    }
+
+    /**
+     * @return Number of frames whose buttons were found in the button buffers
+     */
+    public int getBufferHits() {
+        return bufferHits;
+    }
+
+    /**
+     * @return Number of times buttons had to be built because they were not buffered
+     */
+    public int getBufferMisses() {
+        return bufferMisses;
+    }
+
+    /**
+     * @return Number of faces served by the @{@link SwipeButtonFaceCache}
+     */
+    public int getFaceCacheHits() {
+        return faceCacheHits;
+    }
+
+    /**
+     * @return Number of faces the @{@link SwipeButtonFaceCache} had to render
+     */
+    public int getFaceCacheMisses() {
+        return faceCacheMisses;
+    }
+
+    /**
+     * @return Number of item rebinds triggered by closing swiped items
+     */
+    public int getRecoverRebinds() {
+        return recoverRebinds;
+    }
+
+    /**
+     * @return Number of @{@link SwipeButton} clicks
+     */
+    public int getClicks() {
+        return clicks;
+    }
+
+    /**
+     * @return Time in milliseconds from touching down on the last clicked @{@link SwipeButton}
+     * until its listener was called, or -1 if no button was clicked
+     */
+    public long getLastTapToClickLatencyMillis() {
+        return lastTapToClickLatencyMillis;
+    }
+
+    void reset(int position) {
+        this.position = position;
+        framesDrawn = 0;
+        frameDurationNanos = 0;
+        Arrays.fill(frameDurationHistogram, 0);
+        buttonsBuilt = 0;
+        bufferHits = 0;
+        bufferMisses = 0;
+        faceCacheHits = 0;
+        faceCacheMisses = 0;
+        recoverRebinds = 0;
+        clicks = 0;
+        lastTapToClickLatencyMillis = -1;
+    }
+
+    void recordFrame(long durationNanos) {
+        framesDrawn++;
+        frameDurationNanos += durationNanos;
+
+        int bucket = 0;
+
+        while (durationNanos >= BUCKET_UPPER_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+
+        frameDurationHistogram[bucket]++;
+    }
+
+    void recordBufferHit() {
+        bufferHits++;
+    }
+
+    void recordBufferMiss(int buttonsBuilt) {
+        bufferMisses++;
+        this.buttonsBuilt += buttonsBuilt;
+    }
+
+    void recordFaceCache(int hits, int misses) {
+        faceCacheHits += hits;
+        faceCacheMisses += misses;
+    }
+
+    void recordRecoverRebinds(int rebinds) {
+        recoverRebinds += rebinds;
+    }
+
+    void recordClick(long tapToClickLatencyMillis) {
+        clicks++;
+        lastTapToClickLatencyMillis = tapToClickLatencyMillis;
+    }
+}
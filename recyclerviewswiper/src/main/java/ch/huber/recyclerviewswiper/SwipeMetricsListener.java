@@ -0,0 +1,17 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Interface for receiving @{@link SwipeMetrics} of finished swipes
+ */
+public interface SwipeMetricsListener {
+
+    /**
+     * Fires once a swipe is finished, either because the item was closed again or because another
+     * item got swiped
+     *
+     * @param metrics Metrics of the finished swipe. The instance is reused for the next swipe, so
+     *                values have to be copied if they are needed later on.
+     */
+    void onSwipeMetrics(SwipeMetrics metrics);
+
+}
@@ -0,0 +1,346 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.Arrays;
+
+/**
+ * Bounded set of the items which are currently swiped open. Every open item occupies a slot of
+ * dense primitive arrays (position, revealed side and an access stamp) and the slot of a position
+ * is found in constant time through a small open addressing table. Once all slots are taken,
+ * opening another item evicts the least recently opened one.
+ */
+class SwipeOpenItems {
+
+    private int capacity;
+    private int size;
+    private long clock;
+
+    private int[] positions;
+    private boolean[] rightSides;
+    private long[] stamps;
+
+    /**
+     * Open addressing table of slot + 1 per hashed position, 0 marks a free entry. The table is
+     * kept at least twice as large as the capacity, so probe sequences stay short.
+     */
+    private int[] table;
+    private int shift;
+
+    SwipeOpenItems(int capacity) {
+        resize(capacity, null);
+    }
+
+    /**
+     * Opens the given item, or refreshes it if it is open already. The least recently opened item
+     * is evicted if all slots are taken.
+     *
+     * @param position  Adapter position of the item
+     * @param rightSide Whether the buttons are revealed on the right side of the item
+     * @return Adapter position of the evicted item, or -1 if no item was evicted
+     */
+    int open(int position, boolean rightSide) {
+
+        if (position < 0) {
+            return -1;
+        }
+
+        int slot = indexOf(position);
+
+        if (slot >= 0) {
+            rightSides[slot] = rightSide;
+            stamps[slot] = ++clock;
+            return -1;
+        }
+
+        int evicted = -1;
+
+        if (size == capacity) {
+            int eldest = indexOfLeastRecentlyOpened();
+            evicted = positions[eldest];
+            removeAt(eldest);
+        }
+
+        slot = size++;
+        positions[slot] = position;
+        rightSides[slot] = rightSide;
+        stamps[slot] = ++clock;
+        table[probe(position)] = slot + 1;
+
+        return evicted;
+    }
+
+    /**
+     * Closes the given item.
+     *
+     * @param position Adapter position of the item
+     * @return Whether the item was open
+     */
+    boolean close(int position) {
+        int slot = indexOf(position);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * @param position Adapter position of an item
+     * @return Slot of the item, or -1 if it is not open
+     */
+    int indexOf(int position) {
+
+        if (position < 0) {
+            return -1;
+        }
+
+        int entry = table[probe(position)];
+        return entry - 1;
+    }
+
+    /**
+     * @param slot Slot of an open item
+     * @return Adapter position of the item
+     */
+    int positionAt(int slot) {
+        return positions[slot];
+    }
+
+    /**
+     * @param slot Slot of an open item
+     * @return Whether the buttons of the item are revealed on its right side
+     */
+    boolean isRightSideAt(int slot) {
+        return rightSides[slot];
+    }
+
+    /**
+     * @return Number of open items
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether no item is open
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Maximum number of items open at the same time
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Slots of all open items, from least to most recently opened
+     */
+    int[] slotsByAge() {
+        int[] slots = new int[size];
+
+        // Insertion sort by stamp, there are only few open items
+
+        for (int i = 0; i < size; i++) {
+            int slot = i;
+            int j = i;
+
+            while (j > 0 && stamps[slots[j - 1]] > stamps[slot]) {
+                slots[j] = slots[j - 1];
+                j--;
+            }
+
+            slots[j] = slot;
+        }
+
+        return slots;
+    }
+
+    /**
+     * Closes all items and queues them for recovery.
+     *
+     * @param recoverQueue Receives the positions of all open items
+     */
+    void drainTo(SwipeRecoverQueue recoverQueue) {
+        for (int slot = 0; slot < size; slot++) {
+            recoverQueue.add(positions[slot]);
+        }
+
+        clear();
+    }
+
+    /**
+     * Shifts the open items behind inserted items.
+     *
+     * @param positionStart Position of the first inserted item
+     * @param itemCount     Number of inserted items
+     */
+    void insertRange(int positionStart, int itemCount) {
+        for (int slot = 0; slot < size; slot++) {
+            positions[slot] = SwipePositions.afterInsert(positions[slot], positionStart, itemCount);
+        }
+
+        rehash();
+    }
+
+    /**
+     * Closes the removed items and shifts the open items behind them.
+     *
+     * @param positionStart Position of the first removed item
+     * @param itemCount     Number of removed items
+     */
+    void removeRange(int positionStart, int itemCount) {
+        int slot = 0;
+
+        while (slot < size) {
+            int position = SwipePositions.afterRemove(positions[slot], positionStart, itemCount);
+
+            if (position < 0) {
+
+                // Removed item, the last slot moves into this one
+
+                positions[slot] = positions[--size];
+                rightSides[slot] = rightSides[size];
+                stamps[slot] = stamps[size];
+            } else {
+                positions[slot++] = position;
+            }
+        }
+
+        rehash();
+    }
+
+    /**
+     * Follows a moved item, open items in between shift by one.
+     *
+     * @param fromPosition Previous position of the moved item
+     * @param toPosition   New position of the moved item
+     */
+    void move(int fromPosition, int toPosition) {
+        for (int slot = 0; slot < size; slot++) {
+            positions[slot] = SwipePositions.afterMove(positions[slot], fromPosition, toPosition);
+        }
+
+        rehash();
+    }
+
+    /**
+     * Closes all items.
+     */
+    void clear() {
+        size = 0;
+        Arrays.fill(table, 0);
+    }
+
+    /**
+     * Changes the maximum number of items open at the same time. Least recently opened items are
+     * evicted if there are more open items than the new capacity.
+     *
+     * @param capacity     New maximum number of open items
+     * @param recoverQueue Receives the positions of evicted items, may be null if nothing is open
+     */
+    void resize(int capacity, SwipeRecoverQueue recoverQueue) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity <= 0");
+        }
+
+        while (size > capacity) {
+            int eldest = indexOfLeastRecentlyOpened();
+            recoverQueue.add(positions[eldest]);
+            removeAt(eldest);
+        }
+
+        int bits = 32 - Integer.numberOfLeadingZeros(capacity * 2 - 1);
+        bits = Math.max(bits, 1);
+
+        this.capacity = capacity;
+        this.positions = positions == null ? new int[capacity] : Arrays.copyOf(positions, capacity);
+        this.rightSides = rightSides == null ? new boolean[capacity] : Arrays.copyOf(rightSides, capacity);
+        this.stamps = stamps == null ? new long[capacity] : Arrays.copyOf(stamps, capacity);
+        this.table = new int[1 << bits];
+        this.shift = 32 - bits;
+
+        rehash();
+    }
+
+    private void rehash() {
+        Arrays.fill(table, 0);
+
+        for (int slot = 0; slot < size; slot++) {
+            table[probe(positions[slot])] = slot + 1;
+        }
+    }
+
+    /**
+     * Returns the table index holding the given position, or the free index it would be
+     * inserted at.
+     */
+    private int probe(int position) {
+        int mask = table.length - 1;
+        int index = hash(position);
+
+        while (table[index] != 0 && positions[table[index] - 1] != position) {
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private int hash(int position) {
+        return (position * 0x9E3779B9) >>> shift;
+    }
+
+    private int indexOfLeastRecentlyOpened() {
+        int eldest = 0;
+
+        for (int slot = 1; slot < size; slot++) {
+            if (stamps[slot] < stamps[eldest]) {
+                eldest = slot;
+            }
+        }
+
+        return eldest;
+    }
+
+    private void removeAt(int slot) {
+        removeFromTable(probe(positions[slot]));
+
+        // Move the last item into the freed slot, so the slots stay dense
+
+        int last = --size;
+
+        if (slot != last) {
+            positions[slot] = positions[last];
+            rightSides[slot] = rightSides[last];
+            stamps[slot] = stamps[last];
+            table[probe(positions[slot])] = slot + 1;
+        }
+    }
+
+    /**
+     * Frees the given table index and shifts following entries of the same probe sequence back,
+     * so lookups do not need tombstones.
+     */
+    private void removeFromTable(int index) {
+        int mask = table.length - 1;
+        int free = index;
+        table[free] = 0;
+
+        for (int next = (free + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = hash(positions[table[next] - 1]);
+
+            // Entry may move into the free index only if its home does not lie between both
+
+            boolean between = free <= next ? free < home && home <= next : free < home || home <= next;
+
+            if (!between) {
+                table[free] = table[next];
+                table[next] = 0;
+                free = next;
+            }
+        }
+    }
+}
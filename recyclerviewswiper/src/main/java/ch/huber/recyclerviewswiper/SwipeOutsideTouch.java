@@ -0,0 +1,58 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Decides when a gesture outside of the open items closes them. By default, open items are closed
+ * as soon as such a gesture touches the list. Frozen items stay open while the list is dragged, so
+ * their close is deferred until the gesture is lifted without the list having scrolled.
+ */
+final class SwipeOutsideTouch {
+
+    /**
+     * Whether the current gesture closes the open items once it is lifted.
+     */
+    private boolean closePending;
+
+    /**
+     * @param freeze Whether open items are frozen while the list scrolls
+     * @return Whether the open items are closed right away
+     */
+    boolean onDown(boolean freeze) {
+        closePending = freeze;
+        return !freeze;
+    }
+
+    /**
+     * @param freeze    Whether open items are frozen while the list scrolls
+     * @param scrolling Whether the list is scrolling
+     * @return Whether the open items are closed right away
+     */
+    boolean onMove(boolean freeze, boolean scrolling) {
+
+        if (scrolling) {
+
+            // Gesture turned into a drag, the frozen items stay open
+
+            closePending = false;
+        }
+
+        return !freeze;
+    }
+
+    /**
+     * @param freeze    Whether open items are frozen while the list scrolls
+     * @param scrolling Whether the list is still scrolling, for example after a fling
+     * @return Whether the open items are closed
+     */
+    boolean onUp(boolean freeze, boolean scrolling) {
+        boolean close = !freeze || closePending && !scrolling;
+        closePending = false;
+        return close;
+    }
+
+    /**
+     * Drops a deferred close, once a gesture is cancelled or starts on an open item.
+     */
+    void reset() {
+        closePending = false;
+    }
+}
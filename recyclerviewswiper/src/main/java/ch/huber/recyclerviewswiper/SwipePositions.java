@@ -0,0 +1,59 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Maps adapter positions across the structural changes an adapter notifies its observers about,
+ * so positions remembered by the swiper keep pointing to the same items.
+ */
+final class SwipePositions {
+
+    private SwipePositions() {
+    }
+
+    /**
+     * @param position      Position before the insertion
+     * @param positionStart Position of the first inserted item
+     * @param itemCount     Number of inserted items
+     * @return Position after the insertion
+     */
+    static int afterInsert(int position, int positionStart, int itemCount) {
+        return position >= positionStart ? position + itemCount : position;
+    }
+
+    /**
+     * @param position      Position before the removal
+     * @param positionStart Position of the first removed item
+     * @param itemCount     Number of removed items
+     * @return Position after the removal, or -1 if the item itself was removed
+     */
+    static int afterRemove(int position, int positionStart, int itemCount) {
+
+        if (position < positionStart) {
+            return position;
+        }
+
+        return position >= positionStart + itemCount ? position - itemCount : -1;
+    }
+
+    /**
+     * @param position     Position before the move
+     * @param fromPosition Previous position of the moved item
+     * @param toPosition   New position of the moved item
+     * @return Position after the move
+     */
+    static int afterMove(int position, int fromPosition, int toPosition) {
+
+        if (position == fromPosition) {
+            return toPosition;
+        }
+
+        if (fromPosition < toPosition && position > fromPosition && position <= toPosition) {
+            return position - 1;
+        }
+
+        if (toPosition < fromPosition && position >= toPosition && position < fromPosition) {
+            return position + 1;
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,139 @@
+package ch.huber.recyclerviewswiper;
+
+import java.util.BitSet;
+
+/**
+ * Queue of item positions waiting to be reset to the "unswiped" state. Positions are deduplicated
+ * in a bit set and drained in ascending order, adjacent positions coalesced into ranges, so a
+ * whole run of items is recovered with a single adapter notification.
+ */
+class SwipeRecoverQueue {
+
+    /**
+     * Receives the coalesced ranges of a drained @{@link SwipeRecoverQueue}.
+     */
+    interface RangeConsumer {
+
+        /**
+         * @param positionStart First position of the range
+         * @param itemCount     Number of positions in the range
+         */
+        void onRange(int positionStart, int itemCount);
+    }
+
+    private final BitSet positions = new BitSet();
+
+    /**
+     * Queues the given position, invalid positions are ignored.
+     *
+     * @param position Adapter position of the item to recover
+     * @return Whether the position was not queued yet
+     */
+    boolean add(int position) {
+
+        if (position < 0 || positions.get(position)) {
+            return false;
+        }
+
+        positions.set(position);
+        return true;
+    }
+
+    /**
+     * @param position Adapter position of an item
+     * @return Whether the position is queued
+     */
+    boolean contains(int position) {
+        return position >= 0 && positions.get(position);
+    }
+
+    /**
+     * @return Whether no position is queued
+     */
+    boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * @return Number of queued positions
+     */
+    int size() {
+        return positions.cardinality();
+    }
+
+    /**
+     * Shifts the queued positions behind inserted items.
+     *
+     * @param positionStart Position of the first inserted item
+     * @param itemCount     Number of inserted items
+     */
+    void insertRange(int positionStart, int itemCount) {
+        BitSet tail = positions.get(positionStart, Math.max(positionStart, positions.length()));
+        positions.clear(positionStart, Math.max(positionStart, positions.length()));
+
+        for (int bit = tail.nextSetBit(0); bit >= 0; bit = tail.nextSetBit(bit + 1)) {
+            positions.set(positionStart + itemCount + bit);
+        }
+    }
+
+    /**
+     * Drops the removed items and shifts the queued positions behind them.
+     *
+     * @param positionStart Position of the first removed item
+     * @param itemCount     Number of removed items
+     */
+    void removeRange(int positionStart, int itemCount) {
+        int end = positionStart + itemCount;
+        BitSet tail = positions.get(end, Math.max(end, positions.length()));
+        positions.clear(positionStart, Math.max(end, positions.length()));
+
+        for (int bit = tail.nextSetBit(0); bit >= 0; bit = tail.nextSetBit(bit + 1)) {
+            positions.set(positionStart + bit);
+        }
+    }
+
+    /**
+     * Follows a moved item, queued positions in between shift by one.
+     *
+     * @param fromPosition Previous position of the moved item
+     * @param toPosition   New position of the moved item
+     */
+    void move(int fromPosition, int toPosition) {
+        boolean moved = positions.get(fromPosition);
+
+        removeRange(fromPosition, 1);
+        insertRange(toPosition, 1);
+        positions.set(toPosition, moved);
+    }
+
+    /**
+     * Removes all queued positions.
+     */
+    void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Removes all queued positions and hands them to the given @consumer, adjacent positions
+     * coalesced into one range.
+     *
+     * @param consumer Receives the ranges in ascending order
+     * @return Number of ranges handed to the consumer
+     */
+    int drain(RangeConsumer consumer) {
+        int ranges = 0;
+        int start = positions.nextSetBit(0);
+
+        while (start >= 0) {
+            int end = positions.nextClearBit(start);
+            positions.clear(start, end);
+
+            consumer.onRange(start, end - start);
+            ranges++;
+
+            start = positions.nextSetBit(end);
+        }
+
+        return ranges;
+    }
+}
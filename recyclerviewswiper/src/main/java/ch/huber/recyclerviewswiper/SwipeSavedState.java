@@ -0,0 +1,127 @@
+package ch.huber.recyclerviewswiper;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * Open items of a @{@link RecyclerViewSwiper}, saved across configuration changes. Only open items
+ * are saved, so the size does not grow with the list: every item takes one {@code long} key, its
+ * stable id or adapter position, and a single bit for the revealed side, packed 64 to a
+ * {@code long}. Items are ordered from least to most recently opened.
+ *
+ * @see RecyclerViewSwiper#onSaveInstanceState()
+ * @see RecyclerViewSwiper#onRestoreInstanceState(Parcelable)
+ */
+public final class SwipeSavedState implements Parcelable {
+
+    private static final int FLAG_STABLE_IDS = 1;
+
+    private final int flags;
+    private final long[] keys;
+
+    /**
+     * Bit {@code i} is set if the buttons of item {@code i} are revealed on its right side.
+     */
+    private final long[] rightSides;
+
+    /**
+     * Creates an empty state of the given size, filled by {@link #set(int, long, boolean)}.
+     *
+     * @param stableIds Whether the keys are stable ids instead of adapter positions
+     * @param size      Number of open items
+     */
+    SwipeSavedState(boolean stableIds, int size) {
+        this.flags = stableIds ? FLAG_STABLE_IDS : 0;
+        this.keys = new long[size];
+        this.rightSides = new long[(size + 63) >>> 6];
+    }
+
+    private SwipeSavedState(Parcel source) {
+        this.flags = source.readInt();
+        this.keys = source.createLongArray();
+        this.rightSides = source.createLongArray();
+    }
+
+    /**
+     * @param index     Index of the item, from least to most recently opened
+     * @param key       Stable id or adapter position of the item
+     * @param rightSide Whether the buttons are revealed on the right side of the item
+     */
+    void set(int index, long key, boolean rightSide) {
+        keys[index] = key;
+
+        if (rightSide) {
+            rightSides[index >>> 6] |= 1L << index;
+        } else {
+            rightSides[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * @return Whether the keys are stable ids instead of adapter positions
+     */
+    boolean hasStableIds() {
+        return (flags & FLAG_STABLE_IDS) != 0;
+    }
+
+    /**
+     * @return Number of open items
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param index Index of the item, from least to most recently opened
+     * @return Stable id or adapter position of the item
+     */
+    long keyAt(int index) {
+        return keys[index];
+    }
+
+    /**
+     * @param index Index of the item, from least to most recently opened
+     * @return Whether the buttons are revealed on the right side of the item
+     */
+    boolean isRightSideAt(int index) {
+        return (rightSides[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param key Stable id or adapter position of an item
+     * @return Index of the item, or -1 if it was not open
+     */
+    int indexOfKey(long key) {
+        for (int i = keys.length - 1; i >= 0; i--) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeInt(this.flags);
+        dest.writeLongArray(keys);
+        dest.writeLongArray(rightSides);
+    }
+
+    public static final Creator<SwipeSavedState> CREATOR = new Creator<SwipeSavedState>() {
+        @Override
+        public SwipeSavedState createFromParcel(Parcel source) {
+            return new SwipeSavedState(source);
+        }
+
+        @Override
+        public SwipeSavedState[] newArray(int size) {
+            return new SwipeSavedState[size];
+        }
+    };
+}
@@ -0,0 +1,52 @@
+package ch.huber.recyclerviewswiper;
+
+/**
+ * Lookup table between the sign of a translation along the swipe axis and the side of an item
+ * whose @{@link SwipeButton} it reveals. Buttons of the right side belong to the end of an item,
+ * so they are revealed by a swipe to the left in left-to-right layouts and by a swipe to the right
+ * in right-to-left layouts. Items swiped UP and DOWN are never mirrored.
+ * <p>
+ * The table is resolved once per layout direction, so a frame only indexes it.
+ */
+final class SwipeSideTable {
+
+    /**
+     * Whether the buttons of the right side are revealed, by a negative translation at index 0 and
+     * by a positive translation at index 1.
+     */
+    private final boolean[] rightSides = {true, false};
+
+    /**
+     * Resolves the table for the given layout direction.
+     *
+     * @param mirrored Whether the sides are swapped, which is the case for items swiped LEFT and
+     *                 RIGHT in a right-to-left layout
+     * @return Whether the table changed
+     */
+    boolean resolve(boolean mirrored) {
+
+        if (rightSides[0] == !mirrored) {
+            return false;
+        }
+
+        rightSides[0] = !mirrored;
+        rightSides[1] = mirrored;
+        return true;
+    }
+
+    /**
+     * @param translation Translation of an item along its swipe axis
+     * @return Whether the translation reveals the buttons of the right side
+     */
+    boolean isRightSide(float translation) {
+        return rightSides[translation < 0 ? 0 : 1];
+    }
+
+    /**
+     * @param rightSide Whether the buttons of the right side are meant
+     * @return Sign of the translation revealing the buttons of the given side, -1 or 1
+     */
+    float signOf(boolean rightSide) {
+        return rightSides[0] == rightSide ? -1f : 1f;
+    }
+}
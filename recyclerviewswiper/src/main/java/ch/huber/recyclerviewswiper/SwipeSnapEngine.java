@@ -0,0 +1,90 @@
+package ch.huber.recyclerviewswiper;
+
+import android.animation.TimeInterpolator;
+
+/**
+ * Decides whether a released item snaps open or closed and how it settles there. The default
+ * engine opens an item once it was dragged across half of its buttons, or flung fast enough, and
+ * settles with a critically damped @{@link SwipeSpringInterpolator}. Override single methods to
+ * customize thresholds, velocities or curves.
+ */
+public class SwipeSnapEngine {
+
+    /**
+     * Duration in milliseconds of settling across the whole width of the buttons. Default value is
+     * {@value}.
+     */
+    public static final long DEFAULT_SETTLE_DURATION = 250;
+
+    private final TimeInterpolator settleInterpolator = new SwipeSpringInterpolator();
+
+    /**
+     * Returns how far an item has to be dragged to snap open once released. Faster flings in the
+     * opening direction open the item anyway, see {@link #getEscapeVelocity(float)}. By default an
+     * item flung back towards closed closes regardless of how far it was dragged.
+     *
+     * @param revealWidth   Width of all buttons of the dragged side of the item in pixels
+     * @param velocity      Velocity of the finger at release in pixels per second, positive while
+     *                      opening and negative while closing
+     * @param flingVelocity Minimum velocity of a fling on this device in pixels per second
+     * @return Distance in pixels
+     */
+    public float getOpenThreshold(float revealWidth, float velocity, float flingVelocity) {
+
+        if (velocity <= -flingVelocity) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        return 0.5f * revealWidth;
+    }
+
+    /**
+     * Returns the minimum fling velocity which opens an item regardless of how far it was dragged,
+     * see {@link androidx.recyclerview.widget.ItemTouchHelper.Callback#getSwipeEscapeVelocity(float)}.
+     *
+     * @param defaultValue Default escape velocity of the platform in pixels per second
+     * @return Escape velocity in pixels per second
+     */
+    public float getEscapeVelocity(float defaultValue) {
+        return 0.1f * defaultValue;
+    }
+
+    /**
+     * Returns the velocity up to which flings are taken into account, see
+     * {@link androidx.recyclerview.widget.ItemTouchHelper.Callback#getSwipeVelocityThreshold(float)}.
+     *
+     * @param defaultValue Default maximum velocity of the platform in pixels per second
+     * @return Maximum velocity in pixels per second
+     */
+    public float getVelocityThreshold(float defaultValue) {
+        return 5.0f * defaultValue;
+    }
+
+    /**
+     * Returns how long a released item takes to settle. The default duration shrinks with the
+     * square root of the remaining distance, like a spring released closer to its rest position.
+     *
+     * @param distance    Remaining distance to the settled position in pixels
+     * @param revealWidth Width of all buttons of the item in pixels
+     * @return Duration in milliseconds
+     */
+    public long getSettleDuration(float distance, float revealWidth) {
+
+        if (distance <= 0f || revealWidth <= 0f) {
+            return 0;
+        }
+
+        double fraction = Math.min(1.0, distance / revealWidth);
+        return Math.round(DEFAULT_SETTLE_DURATION * Math.sqrt(fraction));
+    }
+
+    /**
+     * Returns the curve a released item settles along.
+     *
+     * @param opening Whether the item settles open or closed
+     * @return Interpolator of the settle animation
+     */
+    public TimeInterpolator getSettleInterpolator(boolean opening) {
+        return settleInterpolator;
+    }
+}
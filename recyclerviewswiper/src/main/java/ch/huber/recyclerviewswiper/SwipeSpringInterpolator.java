@@ -0,0 +1,85 @@
+package ch.huber.recyclerviewswiper;
+
+import android.animation.TimeInterpolator;
+
+/**
+ * Interpolator following the closed-form motion of a damped spring released towards its rest
+ * position. The stiffness is chosen so the spring is settled within the duration of the animation,
+ * so there are no frames at the end which do not move the item anymore. A damping ratio of 1
+ * settles without overshooting, smaller ratios bounce past the target before coming to rest.
+ */
+public class SwipeSpringInterpolator implements TimeInterpolator {
+
+    /**
+     * Remaining amplitude at the end of the animation, the spring snaps to its target from there.
+     */
+    private static final double SETTLED_AMPLITUDE = 0.001;
+
+    private final double dampingRatio;
+    private final double naturalFrequency;
+    private final double dampedFrequency;
+
+    /**
+     * Creates a new instance of @{@link SwipeSpringInterpolator} which does not overshoot.
+     */
+    public SwipeSpringInterpolator() {
+        this(1f);
+    }
+
+    /**
+     * Creates a new instance of @{@link SwipeSpringInterpolator}.
+     *
+     * @param dampingRatio Damping ratio of the spring, greater than 0 and at most 1
+     */
+    public SwipeSpringInterpolator(float dampingRatio) {
+        if (dampingRatio <= 0f || dampingRatio > 1f) {
+            throw new IllegalArgumentException("dampingRatio must be within (0, 1]");
+        }
+
+        this.dampingRatio = dampingRatio;
+
+        if (dampingRatio == 1f) {
+
+            // Critically damped, solve e^(-w) * (1 + w) = SETTLED_AMPLITUDE by a few Newton steps
+
+            double frequency = -Math.log(SETTLED_AMPLITUDE);
+
+            for (int i = 0; i < 8; i++) {
+                double value = Math.exp(-frequency) * (1 + frequency) - SETTLED_AMPLITUDE;
+                double derivative = -frequency * Math.exp(-frequency);
+                frequency -= value / derivative;
+            }
+
+            this.naturalFrequency = frequency;
+            this.dampedFrequency = 0;
+        } else {
+
+            // Envelope of the oscillation decays to SETTLED_AMPLITUDE at the end
+
+            double envelope = Math.sqrt(1 - dampingRatio * dampingRatio);
+            this.naturalFrequency = Math.log(1 / (SETTLED_AMPLITUDE * envelope)) / dampingRatio;
+            this.dampedFrequency = naturalFrequency * envelope;
+        }
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+
+        if (input >= 1f) {
+            return 1f;
+        }
+
+        if (input <= 0f) {
+            return 0f;
+        }
+
+        double decay = Math.exp(-dampingRatio * naturalFrequency * input);
+
+        if (dampedFrequency == 0) {
+            return (float) (1 - decay * (1 + naturalFrequency * input));
+        }
+
+        double phase = dampedFrequency * input;
+        return (float) (1 - decay * (Math.cos(phase) + dampingRatio * naturalFrequency / dampedFrequency * Math.sin(phase)));
+    }
+}
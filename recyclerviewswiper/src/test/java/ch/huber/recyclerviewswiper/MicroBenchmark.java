@@ -0,0 +1,107 @@
+package ch.huber.recyclerviewswiper;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Minimal host-side benchmark harness. Runs an operation until the timings are stable and reports
+ * the time and the bytes allocated per operation.
+ * <p>
+ * Benchmarks only run with {@code ./gradlew :recyclerviewswiper:testDebugUnitTest -Pswiper.benchmark},
+ * the regular unit test run skips them.
+ */
+final class MicroBenchmark {
+
+    /**
+     * Operation under test. Returns a value, so the JIT cannot drop the work.
+     */
+    interface Operation {
+        long run(int iteration);
+    }
+
+    static final String PROPERTY = "swiper.benchmark";
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+    private static final long ROUND_NANOS = 100_000_000L;
+
+    static volatile long sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * @return Whether benchmarks were requested for the current test run
+     */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Measures the given @operation and prints the result.
+     *
+     * @param name      Name of the benchmark in the report
+     * @param operation Operation under test
+     * @return Average time per operation in nanoseconds
+     */
+    static double measure(String name, Operation operation) {
+        int iterations = calibrate(operation);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(operation, iterations);
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long allocatedBytes = allocatedBytes();
+
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            runRound(operation, iterations);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        allocatedBytes = allocatedBytes() - allocatedBytes;
+
+        double nanosPerOperation = (double) bestNanos / iterations;
+        double bytesPerOperation = (double) allocatedBytes / ((long) iterations * MEASURE_ROUNDS);
+
+        System.out.println(String.format(Locale.ROOT, "%-48s %12.2f ns/op %10.2f B/op", name, nanosPerOperation, bytesPerOperation));
+
+        return nanosPerOperation;
+    }
+
+    private static int calibrate(Operation operation) {
+        int iterations = 1;
+
+        while (true) {
+            long start = System.nanoTime();
+            runRound(operation, iterations);
+
+            if (System.nanoTime() - start >= ROUND_NANOS / 10 || iterations >= (1 << 26)) {
+                return iterations * 10;
+            }
+
+            iterations *= 2;
+        }
+    }
+
+    private static void runRound(Operation operation, int iterations) {
+        long result = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            result += operation.run(i);
+        }
+
+        sink = result;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,34 @@
+package ch.huber.recyclerviewswiper;
+
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @{@link ListUpdateCallback} recording every notification as text, for example "removed 3+2".
+ */
+class RecordingUpdateCallback implements ListUpdateCallback {
+
+    final List<String> updates = new ArrayList<>();
+
+    @Override
+    public void onInserted(int position, int count) {
+        updates.add("inserted " + position + "+" + count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+        updates.add("removed " + position + "+" + count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+        updates.add("moved " + fromPosition + ">" + toPosition);
+    }
+
+    @Override
+    public void onChanged(int position, int count, Object payload) {
+        updates.add("changed " + position + "+" + count);
+    }
+}
@@ -0,0 +1,86 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeButtonBatch}.
+ */
+public class SwipeButtonBatchTest {
+
+    @Test
+    public void commit_removals_dispatchesRangesOnce() {
+        final List<String> items = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        RecordingUpdateCallback callback = new RecordingUpdateCallback();
+
+        SwipeButtonBatch batch = new SwipeButtonBatch(callback);
+        batch.setDebounceMillis(0);
+
+        SwipeButtonClickListener deleteListener = batch.createClickListener(new SwipeButtonBatchListener() {
+            @Override
+            public void onClick(int[] positions, int count, SwipeChangeSet changes) {
+                for (int i = 0; i < count; i++) {
+                    items.remove(positions[i]);
+                    changes.remove(positions[i]);
+                }
+            }
+        });
+
+        deleteListener.onClick(1);
+        deleteListener.onClick(4);
+        deleteListener.onClick(2);
+        deleteListener.onClick(2);
+
+        assertEquals(3, batch.getPendingCount());
+        assertEquals(0, callback.updates.size());
+
+        batch.commit();
+
+        assertEquals("[a, d, f]", items.toString());
+        assertEquals("[removed 4+1, removed 1+2]", callback.updates.toString());
+        assertEquals(0, batch.getPendingCount());
+    }
+
+    @Test
+    public void commit_laterAction_receivesShiftedPositions() {
+        final List<String> items = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+        final List<String> archived = new ArrayList<>();
+
+        SwipeButtonBatch batch = new SwipeButtonBatch(new RecordingUpdateCallback());
+        batch.setDebounceMillis(0);
+
+        SwipeButtonBatchListener deleteListener = new SwipeButtonBatchListener() {
+            @Override
+            public void onClick(int[] positions, int count, SwipeChangeSet changes) {
+                for (int i = 0; i < count; i++) {
+                    items.remove(positions[i]);
+                    changes.remove(positions[i]);
+                }
+            }
+        };
+
+        SwipeButtonBatchListener archiveListener = new SwipeButtonBatchListener() {
+            @Override
+            public void onClick(int[] positions, int count, SwipeChangeSet changes) {
+                for (int i = 0; i < count; i++) {
+                    archived.add(items.get(positions[i]));
+                    changes.change(positions[i]);
+                }
+            }
+        };
+
+        batch.queue(deleteListener, 0);
+        batch.queue(archiveListener, 3);
+        batch.queue(archiveListener, 0);
+        batch.commit();
+
+        // Item "a" was deleted before it could be archived
+
+        assertEquals("[d]", archived.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Benchmarks the button buffer lookup done on every frame of a swipe, and the insertion when a row
+ * is swiped for the first time, for lists of different sizes. The position-keyed HashMap used
+ * before @{@link SwipeButtonBuffer} serves as baseline.
+ */
+public class SwipeButtonBufferBenchmarkTest {
+
+    private static final int[] ROW_COUNTS = {10, 1000, 100000};
+
+    /**
+     * Frames drawn per swipe, before the next row gets swiped.
+     */
+    private static final int FRAMES_PER_SWIPE = 30;
+
+    private static final List<Object> BUTTONS = new ArrayList<>();
+
+    @Test
+    public void benchmark_lookupAndInsert() {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        for (final int rows : ROW_COUNTS) {
+            final SwipeButtonBuffer<List<Object>> buffer = new SwipeButtonBuffer<>();
+
+            MicroBenchmark.measure("buffer/swipeButtonBuffer/rows=" + rows, new MicroBenchmark.Operation() {
+                @Override
+                public long run(int iteration) {
+                    long key = row(iteration, rows);
+                    List<Object> swipeButtons = buffer.get(key);
+
+                    if (swipeButtons == null) {
+                        swipeButtons = BUTTONS;
+                        buffer.put(key, swipeButtons);
+                    }
+
+                    return swipeButtons.size();
+                }
+            });
+
+            final Map<Integer, List<Object>> map = new HashMap<>();
+
+            MicroBenchmark.measure("buffer/hashMapBaseline/rows=" + rows, new MicroBenchmark.Operation() {
+                @Override
+                public long run(int iteration) {
+                    int key = row(iteration, rows);
+                    List<Object> swipeButtons = map.get(key);
+
+                    if (swipeButtons == null) {
+                        swipeButtons = BUTTONS;
+                        map.put(key, swipeButtons);
+                    }
+
+                    return swipeButtons.size();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return Row swiped in the given iteration, rows are spread over the whole list
+     */
+    private static int row(int iteration, int rows) {
+        return (int) ((iteration / FRAMES_PER_SWIPE * 2654435761L) % rows);
+    }
+}
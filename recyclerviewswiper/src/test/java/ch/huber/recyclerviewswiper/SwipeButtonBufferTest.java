@@ -0,0 +1,141 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Local unit test of @{@link SwipeButtonBuffer}.
+ */
+public class SwipeButtonBufferTest {
+
+    @Test
+    public void get_afterPut_returnsValuePerKey() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(4);
+        buffer.put(42L, "a");
+        buffer.put(-7L, "b");
+        buffer.put(Long.MAX_VALUE, "c");
+
+        assertEquals("a", buffer.get(42L));
+        assertEquals("b", buffer.get(-7L));
+        assertEquals("c", buffer.get(Long.MAX_VALUE));
+        assertNull(buffer.get(0L));
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    public void put_whenFull_evictsLeastRecentlyUsed() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(2);
+        buffer.put(1L, "a");
+        buffer.put(2L, "b");
+        buffer.get(1L);
+        buffer.put(3L, "c");
+
+        assertEquals("a", buffer.get(1L));
+        assertNull(buffer.get(2L));
+        assertEquals("c", buffer.get(3L));
+    }
+
+    @Test
+    public void peek_whenFull_keepsEvictionOrder() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(2);
+        buffer.put(1L, "a");
+        buffer.put(2L, "b");
+
+        assertEquals("a", buffer.peek(1L));
+        assertNull(buffer.peek(5L));
+
+        buffer.put(3L, "c");
+
+        assertNull(buffer.get(1L));
+        assertEquals("b", buffer.get(2L));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(2);
+        buffer.put(1L, "a");
+        buffer.put(1L, "b");
+
+        assertEquals("b", buffer.get(1L));
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    public void resize_smallerThanSize_evictsLeastRecentlyUsed() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(3);
+        buffer.put(1L, "a");
+        buffer.put(2L, "b");
+        buffer.put(3L, "c");
+        buffer.get(1L);
+        buffer.resize(1);
+
+        assertEquals(1, buffer.size());
+        assertEquals("a", buffer.get(1L));
+    }
+
+    @Test
+    public void remove_andClear_dropValues() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(3);
+        buffer.put(1L, "a");
+        buffer.put(2L, "b");
+        buffer.remove(1L);
+
+        assertNull(buffer.get(1L));
+        assertEquals("b", buffer.get(2L));
+
+        buffer.clear();
+
+        assertEquals(0, buffer.size());
+        assertNull(buffer.get(2L));
+    }
+
+    @Test
+    public void removeRange_thenOffsetKeys_shiftsFollowingRows() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(8);
+        buffer.put(1L, "a");
+        buffer.put(3L, "b");
+        buffer.put(4L, "c");
+        buffer.put(7L, "d");
+
+        List<String> removed = new ArrayList<>();
+        buffer.removeRange(3L, 5L, removed);
+        buffer.offsetKeys(5L, -2L);
+
+        assertEquals("[b, c]", removed.toString());
+        assertEquals("a", buffer.get(1L));
+        assertEquals("d", buffer.get(5L));
+        assertNull(buffer.get(7L));
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void evictionListener_evictedAndClearedRows_areDispatched() {
+        SwipeButtonBuffer<String> buffer = new SwipeButtonBuffer<>(2);
+        final List<String> evicted = new ArrayList<>();
+        buffer.setEvictionListener(new SwipeButtonBuffer.EvictionListener<String>() {
+            @Override
+            public void onEvicted(long key, String value) {
+                evicted.add(key + value);
+            }
+        });
+        buffer.put(1L, "a");
+        buffer.put(2L, "b");
+        buffer.put(3L, "c");
+        buffer.resize(1);
+        buffer.remove(3L);
+        buffer.put(4L, "d");
+        buffer.clear();
+
+        assertEquals("[1a, 2b, 4d]", evicted.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_withoutCapacity_throws() {
+        new SwipeButtonBuffer<String>(0);
+    }
+}
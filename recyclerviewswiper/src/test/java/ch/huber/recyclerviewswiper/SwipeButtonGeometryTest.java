@@ -0,0 +1,91 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeButtonGeometry}.
+ */
+public class SwipeButtonGeometryTest {
+
+    private static final float[] OFFSETS = {0, 200, 300};
+
+    @Test
+    public void frame_swipeToLeft_startsAtRightEdge() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[8];
+
+        geometry.layout(SwipeDirection.LEFT, 0, 100, 1000, 250, OFFSETS, 2);
+        geometry.frame(-300, rects);
+
+        assertArrayEquals(new float[]{800, 100, 1000, 250, 700, 100, 800, 250}, rects, 0.001f);
+    }
+
+    @Test
+    public void frame_swipeToRight_startsAtLeftEdge() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[8];
+
+        geometry.layout(SwipeDirection.RIGHT, 50, 0, 1000, 150, OFFSETS, 2);
+        geometry.frame(150, rects);
+
+        // Half revealed, both buttons are scaled by half
+
+        assertArrayEquals(new float[]{50, 0, 150, 150, 150, 0, 200, 150}, rects, 0.001f);
+    }
+
+    @Test
+    public void frame_variableWidths_scalesOffsets() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[8];
+
+        geometry.layout(SwipeDirection.LEFT, 0, 0, 1000, 100, new float[]{0, 400, 600}, 2);
+        geometry.frame(-300, rects);
+
+        assertArrayEquals(new float[]{800, 0, 1000, 100, 700, 0, 800, 100}, rects, 0.001f);
+    }
+
+    @Test
+    public void frame_swipeUp_startsAtBottomEdge() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[8];
+
+        geometry.layout(SwipeDirection.UP, 300, 0, 500, 800, OFFSETS, 2);
+        geometry.frame(-300, rects);
+
+        assertArrayEquals(new float[]{300, 600, 500, 800, 300, 500, 500, 600}, rects, 0.001f);
+    }
+
+    @Test
+    public void frame_swipeDown_startsAtTopEdge() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[8];
+
+        geometry.layout(SwipeDirection.DOWN, 300, 40, 500, 800, OFFSETS, 2);
+        geometry.frame(300, rects);
+
+        assertArrayEquals(new float[]{300, 40, 500, 240, 300, 240, 500, 340}, rects, 0.001f);
+    }
+
+    @Test
+    public void frame_directionChanged_layoutFollows() {
+        SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        float[] rects = new float[4];
+
+        geometry.layout(SwipeDirection.LEFT, 0, 0, 1000, 100, OFFSETS, 1);
+        geometry.layout(SwipeDirection.RIGHT, 0, 0, 1000, 100, OFFSETS, 1);
+        geometry.frame(200, rects);
+
+        assertArrayEquals(new float[]{0, 0, 200, 100}, rects, 0.001f);
+    }
+
+    @Test
+    public void of_verticalAxis_mapsSignToUpAndDown() {
+        assertEquals(SwipeDirection.UP, SwipeDirection.of(true, -1));
+        assertEquals(SwipeDirection.DOWN, SwipeDirection.of(true, 1));
+        assertEquals(SwipeDirection.LEFT, SwipeDirection.of(false, -1));
+        assertEquals(SwipeDirection.RIGHT, SwipeDirection.of(false, 1));
+    }
+}
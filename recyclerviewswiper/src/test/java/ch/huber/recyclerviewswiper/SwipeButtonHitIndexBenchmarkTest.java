@@ -0,0 +1,67 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares tap resolution through @{@link SwipeButtonHitIndex} against the previous linear scan
+ * over the click regions of the last drawn frame.
+ */
+public class SwipeButtonHitIndexBenchmarkTest {
+
+    private static final int[] BUTTON_COUNTS = {1, 3, 8, 32};
+
+    @Test
+    public void benchmark_hitIndexVersusLinearScan() {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        for (final int count : BUTTON_COUNTS) {
+            final float buttonWidth = 1000f / count;
+
+            float[] offsets = new float[count + 1];
+
+            for (int i = 0; i <= count; i++) {
+                offsets[i] = i * buttonWidth;
+            }
+
+            final SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+            hitIndex.layout(0, 0, 0, 1000, 100, true, count, offsets);
+
+            // Click regions as they were kept per button: left, top, right, bottom
+
+            final float[][] clickRegions = new float[count][];
+            float right = 1000;
+
+            for (int i = 0; i < count; i++) {
+                clickRegions[i] = new float[]{right - buttonWidth, 0, right, 100};
+                right -= buttonWidth;
+            }
+
+            MicroBenchmark.measure("hitTest/linearScan/buttons=" + count, new MicroBenchmark.Operation() {
+                @Override
+                public long run(int iteration) {
+                    float x = iteration % 1000;
+
+                    for (int i = 0; i < count; i++) {
+                        float[] region = clickRegions[i];
+
+                        if (region[0] < region[2] && region[1] < region[3]
+                                && x >= region[0] && x < region[2] && 50 >= region[1] && 50 < region[3]) {
+                            return i;
+                        }
+                    }
+
+                    return -1;
+                }
+            });
+
+            MicroBenchmark.measure("hitTest/hitIndex/buttons=" + count, new MicroBenchmark.Operation() {
+                @Override
+                public long run(int iteration) {
+                    return hitIndex.find(iteration % 1000, 50);
+                }
+            });
+        }
+    }
+}
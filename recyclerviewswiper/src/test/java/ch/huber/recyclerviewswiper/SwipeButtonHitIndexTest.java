@@ -0,0 +1,92 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeButtonHitIndex}.
+ */
+public class SwipeButtonHitIndexTest {
+
+    @Test
+    public void find_rightSide_resolvesButtonsFromOuterEdge() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(3, 0, 100, 1000, 200, true, 2, uniform(2, 200));
+
+        assertEquals(0, hitIndex.find(999, 150));
+        assertEquals(0, hitIndex.find(800, 150));
+        assertEquals(1, hitIndex.find(799, 150));
+        assertEquals(1, hitIndex.find(600, 150));
+        assertEquals(-1, hitIndex.find(599, 150));
+        assertEquals(-1, hitIndex.find(1000, 150));
+    }
+
+    @Test
+    public void find_leftSide_resolvesButtonsInOrder() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(0, 0, 0, 1000, 100, false, 3, uniform(3, 100));
+
+        assertEquals(0, hitIndex.find(0, 50));
+        assertEquals(1, hitIndex.find(150, 50));
+        assertEquals(2, hitIndex.find(299, 50));
+        assertEquals(-1, hitIndex.find(300, 50));
+    }
+
+    @Test
+    public void find_outsideOfRow_returnsNoButton() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(0, 0, 100, 1000, 200, true, 1, uniform(1, 200));
+
+        assertEquals(-1, hitIndex.find(900, 99));
+        assertEquals(-1, hitIndex.find(900, 200));
+    }
+
+    @Test
+    public void layout_afterItemMoved_replacesStaleRegions() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(5, 0, 100, 1000, 200, true, 1, uniform(1, 200));
+        hitIndex.layout(5, 0, 300, 1000, 400, true, 1, uniform(1, 200));
+
+        assertEquals(-1, hitIndex.find(900, 150));
+        assertEquals(0, hitIndex.find(900, 350));
+    }
+
+    @Test
+    public void find_afterClear_returnsNoButton() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(0, 0, 0, 1000, 100, false, 2, uniform(2, 100));
+        hitIndex.clear();
+
+        assertEquals(-1, hitIndex.find(50, 50));
+    }
+
+    @Test
+    public void find_variableWidths_resolvesFromOffsets() {
+        SwipeButtonHitIndex hitIndex = new SwipeButtonHitIndex();
+        hitIndex.layout(2, 0, 0, 1000, 100, true, 3, new float[]{0, 100, 350, 400});
+
+        assertEquals(0, hitIndex.find(950, 50));
+        assertEquals(1, hitIndex.find(899, 50));
+        assertEquals(1, hitIndex.find(650, 50));
+        assertEquals(2, hitIndex.find(649, 50));
+        assertEquals(-1, hitIndex.find(599, 50));
+
+        hitIndex.layout(2, 0, 0, 1000, 100, false, 3, new float[]{0, 100, 350, 400});
+
+        assertEquals(0, hitIndex.find(99, 50));
+        assertEquals(1, hitIndex.find(100, 50));
+        assertEquals(2, hitIndex.find(399, 50));
+        assertEquals(-1, hitIndex.find(400, 50));
+    }
+
+    private static float[] uniform(int count, float buttonWidth) {
+        float[] offsets = new float[count + 1];
+
+        for (int i = 0; i <= count; i++) {
+            offsets[i] = i * buttonWidth;
+        }
+
+        return offsets;
+    }
+}
@@ -0,0 +1,68 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Benchmarks the per-frame layout of the @{@link SwipeButton} revealed next to a swiped item, as
+ * drawn through @{@link SwipeButtonGeometry}.
+ */
+public class SwipeButtonLayoutBenchmarkTest {
+
+    private static final int[] BUTTON_COUNTS = {1, 3, 8};
+
+    @Test
+    public void benchmark_frameUniformWidths() {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        for (final int count : BUTTON_COUNTS) {
+            final float[] offsets = new float[count + 1];
+
+            for (int i = 0; i <= count; i++) {
+                offsets[i] = i * 200;
+            }
+
+            measureFrames("layout/uniform/buttons=" + count, offsets, count);
+        }
+    }
+
+    @Test
+    public void benchmark_frameFromOffsets() {
+        assumeTrue(MicroBenchmark.isEnabled());
+
+        for (final int count : BUTTON_COUNTS) {
+            final float[] offsets = new float[count + 1];
+            float[] widths = new float[count];
+            float[] weights = new float[count];
+
+            for (int i = 0; i < count; i++) {
+                widths[i] = i % 2 == 0 ? -1 : 120 + i;
+                weights[i] = 1 + i;
+            }
+
+            SwipeButtonLayout.layoutOffsets(widths, weights, count, 200, offsets);
+
+            measureFrames("layout/offsets/buttons=" + count, offsets, count);
+        }
+    }
+
+    /**
+     * Measures a frame of the draw path: the layout of an unchanged row, which returns early, and
+     * the rects of its buttons for the current translation.
+     */
+    private static void measureFrames(String name, final float[] offsets, final int count) {
+        final SwipeButtonGeometry geometry = new SwipeButtonGeometry();
+        final float[] rects = new float[count * 4];
+
+        MicroBenchmark.measure(name, new MicroBenchmark.Operation() {
+            @Override
+            public long run(int iteration) {
+                float translation = -(iteration % (count * 200)) - 1;
+                geometry.layout(SwipeDirection.LEFT, 0, 0, 1080, 160, offsets, count);
+                geometry.frame(translation, rects);
+                return (long) rects[count * 4 - 4];
+            }
+        });
+    }
+}
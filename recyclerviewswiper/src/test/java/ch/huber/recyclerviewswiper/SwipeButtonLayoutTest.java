@@ -0,0 +1,31 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeButtonLayout}.
+ */
+public class SwipeButtonLayoutTest {
+
+    @Test
+    public void layoutOffsets_mixedWidths_weightedShareDefaultWidth() {
+        float[] offsets = new float[4];
+        float total = SwipeButtonLayout.layoutOffsets(new float[]{-1, 150, -1}, new float[]{1, 0, 3}, 3, 200, offsets);
+
+        // Two weighted buttons share 2 * 200 pixels by 1:3
+
+        assertArrayEquals(new float[]{0, 100, 250, 550}, offsets, 0.001f);
+        assertEquals(550, total, 0.001f);
+    }
+
+    @Test
+    public void layoutOffsets_defaultWeights_equallyWide() {
+        float[] offsets = new float[3];
+        SwipeButtonLayout.layoutOffsets(new float[]{-1, -1}, new float[]{1, 1}, 2, 200, offsets);
+
+        assertArrayEquals(new float[]{0, 200, 400}, offsets, 0.001f);
+    }
+}
@@ -0,0 +1,31 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Local unit test of @{@link SwipeButtonTextLayoutCache}.
+ */
+public class SwipeButtonTextLayoutCacheTest {
+
+    @Test
+    public void bucket_widthWithinBucket_roundsDown() {
+        int bucketWidth = SwipeButtonTextLayoutCache.WIDTH_BUCKET_PX;
+
+        assertEquals(0, SwipeButtonTextLayoutCache.bucket(bucketWidth - 1));
+        assertEquals(bucketWidth, SwipeButtonTextLayoutCache.bucket(bucketWidth));
+        assertEquals(10 * bucketWidth, SwipeButtonTextLayoutCache.bucket(11 * bucketWidth - 1));
+    }
+
+    @Test
+    public void key_differsPerTextSizeAndBucket() {
+        long key = SwipeButtonTextLayoutCache.key("DELETE", 36f, 160);
+
+        assertEquals(key, SwipeButtonTextLayoutCache.key("DELETE", 36f, 160));
+        assertNotEquals(key, SwipeButtonTextLayoutCache.key("DELETE", 36f, 176));
+        assertNotEquals(key, SwipeButtonTextLayoutCache.key("DELETE", 42f, 160));
+        assertNotEquals(key, SwipeButtonTextLayoutCache.key("ARCHIVE", 36f, 160));
+    }
+}
@@ -0,0 +1,68 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeChangeSet}.
+ */
+public class SwipeChangeSetTest {
+
+    @Test
+    public void remove_descendingRun_coalescesIntoOneRange() {
+        SwipeChangeSet changes = new SwipeChangeSet();
+        changes.remove(9);
+        changes.remove(8);
+        changes.remove(7);
+        changes.remove(3);
+
+        RecordingUpdateCallback callback = new RecordingUpdateCallback();
+        changes.dispatchUpdatesTo(callback);
+
+        assertEquals("[removed 7+3, removed 3+1]", callback.updates.toString());
+    }
+
+    @Test
+    public void remove_samePositionRepeatedly_coalescesIntoOneRange() {
+        SwipeChangeSet changes = new SwipeChangeSet();
+        changes.remove(4);
+        changes.remove(4);
+        changes.remove(4);
+
+        RecordingUpdateCallback callback = new RecordingUpdateCallback();
+        changes.dispatchUpdatesTo(callback);
+
+        assertEquals("[removed 4+3]", callback.updates.toString());
+    }
+
+    @Test
+    public void change_adjacentPositions_coalesceIntoOneRange() {
+        SwipeChangeSet changes = new SwipeChangeSet();
+        changes.change(5);
+        changes.change(4);
+        changes.change(6);
+        changes.change(5);
+        changes.insert(10);
+        changes.insert(11);
+
+        RecordingUpdateCallback callback = new RecordingUpdateCallback();
+        changes.dispatchUpdatesTo(callback);
+
+        assertEquals("[changed 4+3, inserted 10+2]", callback.updates.toString());
+    }
+
+    @Test
+    public void transform_mapsPositionsThroughRecordedChanges() {
+        SwipeChangeSet changes = new SwipeChangeSet();
+        changes.remove(5);
+        changes.remove(4);
+        changes.insert(0);
+
+        assertEquals(1, changes.transform(0));
+        assertEquals(4, changes.transform(3));
+        assertEquals(-1, changes.transform(4));
+        assertEquals(-1, changes.transform(5));
+        assertEquals(5, changes.transform(6));
+    }
+}
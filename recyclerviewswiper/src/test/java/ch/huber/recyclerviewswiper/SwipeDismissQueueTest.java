@@ -0,0 +1,79 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeDismissQueue}.
+ */
+public class SwipeDismissQueueTest {
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    @Test
+    public void commitAll_pendingItems_commitsOneBatch() {
+        final List<List<String>> batches = new ArrayList<>();
+
+        SwipeDismissQueue<String> queue = new SwipeDismissQueue<>(new SwipeDismissSink<String>() {
+            @Override
+            public void commit(List<String> items) {
+                batches.add(items);
+            }
+        }, DIRECT_EXECUTOR);
+        queue.setUndoWindowMillis(0);
+
+        queue.dismiss("a");
+        queue.dismiss("b");
+        queue.dismiss("c");
+
+        assertTrue(batches.isEmpty());
+        assertEquals(3, queue.getPendingCount());
+
+        queue.commitAll();
+        queue.commitAll();
+
+        assertEquals(1, batches.size());
+        assertEquals("[a, b, c]", batches.get(0).toString());
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    public void undo_pendingItem_isNotCommitted() {
+        final List<String> committed = new ArrayList<>();
+
+        SwipeDismissQueue<String> queue = new SwipeDismissQueue<>(new SwipeDismissSink<String>() {
+            @Override
+            public void commit(List<String> items) {
+                committed.addAll(items);
+            }
+        }, DIRECT_EXECUTOR);
+        queue.setUndoWindowMillis(0);
+
+        queue.dismiss("a");
+        queue.dismiss("b");
+        queue.dismiss("c");
+
+        assertTrue(queue.undo("a"));
+        assertEquals("c", queue.undoLast());
+        assertFalse(queue.isPending("a"));
+
+        queue.commitAll();
+
+        assertFalse(queue.undo("b"));
+        assertNull(queue.undoLast());
+        assertEquals("[b]", committed.toString());
+    }
+}
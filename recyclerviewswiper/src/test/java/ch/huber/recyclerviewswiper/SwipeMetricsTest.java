@@ -0,0 +1,49 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit test of @{@link SwipeMetrics}.
+ */
+public class SwipeMetricsTest {
+
+    @Test
+    public void recordFrame_sortsDurationsIntoBuckets() {
+        SwipeMetrics metrics = new SwipeMetrics();
+        metrics.reset(3);
+        metrics.recordFrame(100_000L);
+        metrics.recordFrame(250_000L);
+        metrics.recordFrame(20_000_000L);
+
+        assertEquals(3, metrics.getPosition());
+        assertEquals(3, metrics.getFramesDrawn());
+        assertEquals(20_350_000L, metrics.getFrameDurationNanos());
+        assertEquals(1, metrics.getFrameDurationCount(0));
+        assertEquals(1, metrics.getFrameDurationCount(1));
+        assertEquals(1, metrics.getFrameDurationCount(SwipeMetrics.getFrameDurationBucketCount() - 1));
+    }
+
+    @Test
+    public void reset_clearsAllCounters() {
+        SwipeMetrics metrics = new SwipeMetrics();
+        metrics.recordFrame(1L);
+        metrics.recordBufferMiss(2);
+        metrics.recordBufferHit();
+        metrics.recordFaceCache(1, 1);
+        metrics.recordRecoverRebinds(1);
+        metrics.recordClick(40L);
+        metrics.reset(0);
+
+        assertEquals(0, metrics.getFramesDrawn());
+        assertEquals(0, metrics.getFrameDurationCount(0));
+        assertEquals(0, metrics.getButtonsBuilt());
+        assertEquals(0, metrics.getBufferHits());
+        assertEquals(0, metrics.getBufferMisses());
+        assertEquals(0, metrics.getFaceCacheHits());
+        assertEquals(0, metrics.getRecoverRebinds());
+        assertEquals(0, metrics.getClicks());
+        assertEquals(-1L, metrics.getLastTapToClickLatencyMillis());
+    }
+}
@@ -0,0 +1,145 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeOpenItems}.
+ */
+public class SwipeOpenItemsTest {
+
+    @Test
+    public void open_singleCapacity_evictsPreviousItem() {
+        SwipeOpenItems openItems = new SwipeOpenItems(1);
+
+        assertEquals(-1, openItems.open(3, true));
+        assertEquals(-1, openItems.open(3, false));
+        assertEquals(3, openItems.open(8, true));
+
+        assertEquals(-1, openItems.indexOf(3));
+        assertEquals(8, openItems.positionAt(openItems.indexOf(8)));
+    }
+
+    @Test
+    public void open_fullCapacity_evictsLeastRecentlyOpened() {
+        SwipeOpenItems openItems = new SwipeOpenItems(3);
+        openItems.open(1, true);
+        openItems.open(2, false);
+        openItems.open(3, true);
+
+        // Opening an item again refreshes it
+
+        openItems.open(1, false);
+
+        assertEquals(2, openItems.open(4, true));
+        assertEquals(3, openItems.size());
+        assertFalse(openItems.isRightSideAt(openItems.indexOf(1)));
+        assertTrue(openItems.isRightSideAt(openItems.indexOf(4)));
+    }
+
+    @Test
+    public void close_collidingPositions_keepsOthersReachable() {
+        SwipeOpenItems openItems = new SwipeOpenItems(64);
+
+        for (int position = 0; position < 64; position++) {
+            openItems.open(position * 128, position % 2 == 0);
+        }
+
+        for (int position = 0; position < 64; position += 3) {
+            assertTrue(openItems.close(position * 128));
+        }
+
+        for (int position = 0; position < 64; position++) {
+            int slot = openItems.indexOf(position * 128);
+
+            if (position % 3 == 0) {
+                assertEquals(-1, slot);
+            } else {
+                assertEquals(position * 128, openItems.positionAt(slot));
+                assertEquals(position % 2 == 0, openItems.isRightSideAt(slot));
+            }
+        }
+    }
+
+    @Test
+    public void resize_smallerCapacity_queuesEvictedItems() {
+        SwipeOpenItems openItems = new SwipeOpenItems(4);
+        openItems.open(10, true);
+        openItems.open(11, true);
+        openItems.open(20, true);
+        openItems.open(30, true);
+
+        SwipeRecoverQueue recoverQueue = new SwipeRecoverQueue();
+        openItems.resize(2, recoverQueue);
+
+        assertEquals(2, openItems.size());
+        assertTrue(recoverQueue.contains(10));
+        assertTrue(recoverQueue.contains(11));
+        assertEquals(-1, openItems.indexOf(10));
+        assertTrue(openItems.indexOf(30) >= 0);
+    }
+
+    @Test
+    public void drainTo_queuesAllItems() {
+        SwipeOpenItems openItems = new SwipeOpenItems(4);
+        openItems.open(5, true);
+        openItems.open(6, false);
+
+        SwipeRecoverQueue recoverQueue = new SwipeRecoverQueue();
+        openItems.drainTo(recoverQueue);
+
+        final List<String> ranges = new ArrayList<>();
+        recoverQueue.drain(new SwipeRecoverQueue.RangeConsumer() {
+            @Override
+            public void onRange(int positionStart, int itemCount) {
+                ranges.add(positionStart + "+" + itemCount);
+            }
+        });
+
+        assertTrue(openItems.isEmpty());
+        assertEquals("[5+2]", ranges.toString());
+    }
+
+    @Test
+    public void removeRange_closesRemovedAndShiftsFollowingItems() {
+        SwipeOpenItems openItems = new SwipeOpenItems(4);
+        openItems.open(2, true);
+        openItems.open(5, false);
+        openItems.open(9, true);
+
+        openItems.removeRange(4, 3);
+        openItems.insertRange(0, 1);
+
+        assertEquals(2, openItems.size());
+        assertEquals(-1, openItems.indexOf(5));
+        assertTrue(openItems.isRightSideAt(openItems.indexOf(3)));
+        assertTrue(openItems.isRightSideAt(openItems.indexOf(7)));
+    }
+
+    @Test
+    public void slotsByAge_refreshedItem_orderedByLastOpening() {
+        SwipeOpenItems openItems = new SwipeOpenItems(4);
+        openItems.open(7, true);
+        openItems.open(3, false);
+        openItems.open(5, true);
+        openItems.open(7, true);
+
+        int[] slots = openItems.slotsByAge();
+
+        assertEquals(3, slots.length);
+        assertEquals(3, openItems.positionAt(slots[0]));
+        assertEquals(5, openItems.positionAt(slots[1]));
+        assertEquals(7, openItems.positionAt(slots[2]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroCapacity_throws() {
+        new SwipeOpenItems(0);
+    }
+}
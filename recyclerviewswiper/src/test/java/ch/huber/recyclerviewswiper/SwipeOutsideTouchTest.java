@@ -0,0 +1,62 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeOutsideTouch}.
+ */
+public class SwipeOutsideTouchTest {
+
+    @Test
+    public void onDown_closeMode_closesRightAway() {
+        SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+        assertTrue(outsideTouch.onDown(false));
+        assertTrue(outsideTouch.onMove(false, true));
+        assertTrue(outsideTouch.onUp(false, true));
+    }
+
+    @Test
+    public void dragFromOutside_freezeMode_keepsItemsOpen() {
+        SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+        assertFalse(outsideTouch.onDown(true));
+        assertFalse(outsideTouch.onMove(true, false));
+        assertFalse(outsideTouch.onMove(true, true));
+
+        // Drag stopped before the finger is lifted
+
+        assertFalse(outsideTouch.onMove(true, false));
+        assertFalse(outsideTouch.onUp(true, false));
+    }
+
+    @Test
+    public void flingFromOutside_freezeMode_keepsItemsOpen() {
+        SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+        assertFalse(outsideTouch.onDown(true));
+        assertFalse(outsideTouch.onUp(true, true));
+    }
+
+    @Test
+    public void tapOutside_freezeMode_closesOnUp() {
+        SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+        assertFalse(outsideTouch.onDown(true));
+        assertFalse(outsideTouch.onMove(true, false));
+        assertTrue(outsideTouch.onUp(true, false));
+    }
+
+    @Test
+    public void reset_afterDownOutside_dropsDeferredClose() {
+        SwipeOutsideTouch outsideTouch = new SwipeOutsideTouch();
+
+        assertFalse(outsideTouch.onDown(true));
+        outsideTouch.reset();
+
+        assertFalse(outsideTouch.onUp(true, false));
+    }
+}
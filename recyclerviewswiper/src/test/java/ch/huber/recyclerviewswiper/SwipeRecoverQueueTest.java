@@ -0,0 +1,64 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeRecoverQueue}.
+ */
+public class SwipeRecoverQueueTest {
+
+    @Test
+    public void add_duplicateOrInvalidPosition_isIgnored() {
+        SwipeRecoverQueue queue = new SwipeRecoverQueue();
+
+        assertTrue(queue.add(4));
+        assertFalse(queue.add(4));
+        assertFalse(queue.add(-1));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void drain_coalescesAdjacentPositions() {
+        SwipeRecoverQueue queue = new SwipeRecoverQueue();
+        queue.add(7);
+        queue.add(3);
+        queue.add(5);
+        queue.add(4);
+        queue.add(100);
+
+        final List<String> ranges = new ArrayList<>();
+        int count = queue.drain(new SwipeRecoverQueue.RangeConsumer() {
+            @Override
+            public void onRange(int positionStart, int itemCount) {
+                ranges.add(positionStart + "+" + itemCount);
+            }
+        });
+
+        assertEquals(3, count);
+        assertEquals("[3+3, 7+1, 100+1]", ranges.toString());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void removeRange_dropsRemovedAndShiftsFollowingPositions() {
+        SwipeRecoverQueue queue = new SwipeRecoverQueue();
+        queue.add(1);
+        queue.add(4);
+        queue.add(8);
+
+        queue.removeRange(3, 2);
+        queue.insertRange(0, 1);
+        queue.move(7, 0);
+
+        assertEquals(2, queue.size());
+        assertTrue(queue.contains(0));
+        assertTrue(queue.contains(3));
+    }
+}
@@ -0,0 +1,49 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeSavedState}.
+ */
+public class SwipeSavedStateTest {
+
+    @Test
+    public void set_manyItems_packsSidesAcrossWords() {
+        SwipeSavedState state = new SwipeSavedState(true, 3000);
+
+        for (int i = 0; i < 3000; i++) {
+            state.set(i, 1000000000000L + i, i % 3 == 0);
+        }
+
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(1000000000000L + i, state.keyAt(i));
+            assertEquals(i % 3 == 0, state.isRightSideAt(i));
+        }
+
+        assertTrue(state.hasStableIds());
+    }
+
+    @Test
+    public void set_sameIndexAgain_clearsSide() {
+        SwipeSavedState state = new SwipeSavedState(false, 70);
+        state.set(65, 7, true);
+        state.set(65, 7, false);
+
+        assertFalse(state.isRightSideAt(65));
+        assertFalse(state.hasStableIds());
+    }
+
+    @Test
+    public void indexOfKey_unknownKey_returnsNoIndex() {
+        SwipeSavedState state = new SwipeSavedState(false, 2);
+        state.set(0, 4, true);
+        state.set(1, 9, false);
+
+        assertEquals(1, state.indexOfKey(9));
+        assertEquals(-1, state.indexOfKey(5));
+    }
+}
@@ -0,0 +1,45 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeSideTable}.
+ */
+public class SwipeSideTableTest {
+
+    @Test
+    public void isRightSide_leftToRight_swipeToLeftRevealsRightSide() {
+        SwipeSideTable sides = new SwipeSideTable();
+
+        assertTrue(sides.isRightSide(-10));
+        assertFalse(sides.isRightSide(10));
+        assertEquals(-1f, sides.signOf(true), 0f);
+        assertEquals(1f, sides.signOf(false), 0f);
+    }
+
+    @Test
+    public void isRightSide_mirrored_swipeToRightRevealsRightSide() {
+        SwipeSideTable sides = new SwipeSideTable();
+
+        assertTrue(sides.resolve(true));
+
+        assertFalse(sides.isRightSide(-10));
+        assertTrue(sides.isRightSide(10));
+        assertEquals(1f, sides.signOf(true), 0f);
+        assertEquals(-1f, sides.signOf(false), 0f);
+    }
+
+    @Test
+    public void resolve_sameDirection_unchanged() {
+        SwipeSideTable sides = new SwipeSideTable();
+
+        assertFalse(sides.resolve(false));
+        assertTrue(sides.resolve(true));
+        assertFalse(sides.resolve(true));
+        assertTrue(sides.resolve(false));
+    }
+}
@@ -0,0 +1,35 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeSnapEngine}.
+ */
+public class SwipeSnapEngineTest {
+
+    private final SwipeSnapEngine snapEngine = new SwipeSnapEngine();
+
+    @Test
+    public void getOpenThreshold_slowRelease_halfOfRevealWidth() {
+        assertEquals(300f, snapEngine.getOpenThreshold(600f, 0f, 50f), 0f);
+        assertEquals(100f, snapEngine.getOpenThreshold(200f, -20f, 50f), 0f);
+    }
+
+    @Test
+    public void getOpenThreshold_flungBack_neverOpens() {
+        assertTrue(Float.isInfinite(snapEngine.getOpenThreshold(600f, -50f, 50f)));
+    }
+
+    @Test
+    public void getSettleDuration_partialDistance_shorterThanFullDistance() {
+        long full = snapEngine.getSettleDuration(400f, 400f);
+        long quarter = snapEngine.getSettleDuration(100f, 400f);
+
+        assertEquals(SwipeSnapEngine.DEFAULT_SETTLE_DURATION, full);
+        assertEquals(SwipeSnapEngine.DEFAULT_SETTLE_DURATION / 2, quarter);
+        assertEquals(0, snapEngine.getSettleDuration(0f, 400f));
+    }
+}
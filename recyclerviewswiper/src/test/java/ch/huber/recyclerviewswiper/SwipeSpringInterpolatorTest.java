@@ -0,0 +1,63 @@
+package ch.huber.recyclerviewswiper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit test of @{@link SwipeSpringInterpolator}.
+ */
+public class SwipeSpringInterpolatorTest {
+
+    @Test
+    public void getInterpolation_bounds_startsAndEndsAtTarget() {
+        SwipeSpringInterpolator interpolator = new SwipeSpringInterpolator();
+
+        assertEquals(0f, interpolator.getInterpolation(0f), 0f);
+        assertEquals(1f, interpolator.getInterpolation(1f), 0f);
+        assertEquals(1f, interpolator.getInterpolation(1.5f), 0f);
+    }
+
+    @Test
+    public void getInterpolation_criticallyDamped_risesWithoutOvershoot() {
+        SwipeSpringInterpolator interpolator = new SwipeSpringInterpolator();
+        float previous = 0f;
+
+        for (int frame = 1; frame <= 60; frame++) {
+            float value = interpolator.getInterpolation(frame / 60f);
+
+            assertTrue(value >= previous);
+            assertTrue(value <= 1f);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void getInterpolation_criticallyDamped_settledBeforeEnd() {
+        SwipeSpringInterpolator interpolator = new SwipeSpringInterpolator();
+
+        // Last frame before the end moves by less than a thousandth of the distance
+
+        assertEquals(1f, interpolator.getInterpolation(59 / 60f), 0.01f);
+        assertEquals(1f, interpolator.getInterpolation(0.9999f), 0.0011f);
+    }
+
+    @Test
+    public void getInterpolation_underdamped_overshootsAndSettles() {
+        SwipeSpringInterpolator interpolator = new SwipeSpringInterpolator(0.5f);
+        float max = 0f;
+
+        for (int frame = 1; frame < 60; frame++) {
+            max = Math.max(max, interpolator.getInterpolation(frame / 60f));
+        }
+
+        assertTrue(max > 1f);
+        assertEquals(1f, interpolator.getInterpolation(0.9999f), 0.0015f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroDamping_throws() {
+        new SwipeSpringInterpolator(0f);
+    }
+}